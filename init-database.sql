@@ -14,7 +14,8 @@ CREATE TABLE IF NOT EXISTS facultades (
     fecha_registro TIMESTAMP NOT NULL,
     activo BOOLEAN NOT NULL DEFAULT TRUE,
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
-    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    version BIGINT NOT NULL DEFAULT 0
     );
 
 -- Tabla de Carreras
@@ -29,6 +30,7 @@ CREATE TABLE IF NOT EXISTS carreras (
     activo BOOLEAN NOT NULL DEFAULT TRUE,
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    version BIGINT NOT NULL DEFAULT 0,
     CONSTRAINT fk_facultad FOREIGN KEY (facultad_id) REFERENCES facultades(id)
     );
 
@@ -53,3 +55,103 @@ VALUES
     (3, 2, 'Medicina', 'Carrera de medicina humana', 14, 'Médico Cirujano', CURRENT_TIMESTAMP, TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
 
+
+-- Secuencias para la asignación de IDs por bloques (INCREMENT BY = universidad.id-allocator.allocation-size)
+CREATE SEQUENCE IF NOT EXISTS facultades_id_seq INCREMENT BY 50 START WITH 1;
+CREATE SEQUENCE IF NOT EXISTS carreras_id_seq INCREMENT BY 50 START WITH 1;
+
+-- Ajustar las secuencias por encima de los IDs ya existentes
+SELECT setval('facultades_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM facultades), false);
+SELECT setval('carreras_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM carreras), false);
+
+-- Índice para la paginación por cursor (keyset) de carreras por facultad
+CREATE INDEX IF NOT EXISTS idx_carreras_facultad_id_id ON carreras(facultad_id, id);
+
+-- Columna de versión para bloqueo optimista en bases de datos creadas antes de su introducción
+ALTER TABLE facultades ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE carreras ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+-- Búsqueda de texto en carreras (GET /api/v1/carreras/search)
+CREATE EXTENSION IF NOT EXISTS unaccent;
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Español sin acentos: "ingenieria" encuentra "Ingeniería"
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_ts_config WHERE cfgname = 'universidad_es') THEN
+        CREATE TEXT SEARCH CONFIGURATION universidad_es (COPY = spanish);
+        ALTER TEXT SEARCH CONFIGURATION universidad_es
+            ALTER MAPPING FOR hword, hword_part, word WITH unaccent, spanish_stem;
+    END IF;
+END
+$$;
+
+-- Vector ponderado: nombre (A) > título otorgado (B) > descripción (C)
+ALTER TABLE carreras ADD COLUMN IF NOT EXISTS busqueda tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('universidad_es', coalesce(nombre, '')), 'A') ||
+    setweight(to_tsvector('universidad_es', coalesce(titulo_otorgado, '')), 'B') ||
+    setweight(to_tsvector('universidad_es', coalesce(descripcion, '')), 'C')
+) STORED;
+CREATE INDEX IF NOT EXISTS idx_carreras_busqueda ON carreras USING GIN (busqueda);
+
+-- LIKE '%...%' sobre el título otorgado sin recorrer la tabla
+CREATE INDEX IF NOT EXISTS idx_carreras_titulo_trgm ON carreras USING GIN (titulo_otorgado gin_trgm_ops);
+
+-- Búsqueda de facultades por ubicación (GET /api/v1/facultades?ubicacion=)
+ALTER TABLE facultades ADD COLUMN IF NOT EXISTS ubicacion_normalizada VARCHAR(200);
+-- Mismo criterio que FacultadJpaEntity.normalizarUbicacion
+UPDATE facultades
+SET ubicacion_normalizada = NULLIF(regexp_replace(btrim(ubicacion), '\s+', ' ', 'g'), '')
+WHERE ubicacion IS NOT NULL AND ubicacion_normalizada IS NULL;
+CREATE INDEX IF NOT EXISTS idx_facultades_ubicacion_normalizada ON facultades (lower(ubicacion_normalizada));
+
+-- Outbox de eventos de dominio: se escribe en la transacción del cambio y OutboxRelay lo publica
+CREATE TABLE IF NOT EXISTS outbox_eventos (
+    id BIGSERIAL PRIMARY KEY,
+    event_id UUID NOT NULL UNIQUE,
+    agregado VARCHAR(50) NOT NULL,
+    agregado_id BIGINT NOT NULL,
+    tipo VARCHAR(100) NOT NULL,
+    payload JSONB NOT NULL,
+    ocurrido_en TIMESTAMP NOT NULL,
+    publicado_en TIMESTAMP,
+    intentos INTEGER NOT NULL DEFAULT 0
+);
+-- Solo los pendientes: el índice no crece con el histórico publicado
+CREATE INDEX IF NOT EXISTS idx_outbox_eventos_pendientes ON outbox_eventos (id) WHERE publicado_en IS NULL;
+CREATE INDEX IF NOT EXISTS idx_outbox_eventos_agregado ON outbox_eventos (agregado, agregado_id);
+
+-- Feed de cambios (GET /api/v1/changes): keyset sobre (updated_at, id)
+UPDATE facultades SET updated_at = created_at WHERE updated_at IS NULL;
+UPDATE carreras SET updated_at = created_at WHERE updated_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_facultades_updated_at_id ON facultades (updated_at, id);
+CREATE INDEX IF NOT EXISTS idx_carreras_updated_at_id ON carreras (updated_at, id);
+
+-- Proyección de lectura de carreras (CQRS): la mantiene CarreraViewProjector en la misma
+-- transacción que cada cambio; las consultas Find* leen solo de esta tabla
+CREATE TABLE IF NOT EXISTS carrera_view (
+    id BIGINT PRIMARY KEY REFERENCES carreras(id) ON DELETE CASCADE,
+    facultad_id BIGINT NOT NULL,
+    facultad_nombre VARCHAR(100) NOT NULL,
+    nombre VARCHAR(100) NOT NULL,
+    descripcion VARCHAR(500),
+    duracion_semestres INTEGER NOT NULL,
+    titulo_otorgado VARCHAR(100) NOT NULL,
+    fecha_registro TIMESTAMP NOT NULL,
+    activo BOOLEAN NOT NULL,
+    version BIGINT NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_carrera_view_facultad_id ON carrera_view (facultad_id, id);
+CREATE INDEX IF NOT EXISTS idx_carrera_view_duracion ON carrera_view (duracion_semestres, id);
+
+-- Años y clasificación no se guardan: se derivan de duracion_semestres al leer (Duracion, CarreraMapper)
+ALTER TABLE carrera_view DROP COLUMN IF EXISTS duracion_anios;
+ALTER TABLE carrera_view DROP COLUMN IF EXISTS clasificacion;
+
+-- Carga inicial; mismas columnas que CarreraViewJpaRepository.upsertCarreras
+INSERT INTO carrera_view (id, facultad_id, facultad_nombre, nombre, descripcion, duracion_semestres,
+                          titulo_otorgado, fecha_registro, activo, version)
+SELECT c.id, c.facultad_id, f.nombre, c.nombre, c.descripcion, c.duracion_semestres,
+       c.titulo_otorgado, c.fecha_registro, c.activo, c.version
+FROM carreras c JOIN facultades f ON f.id = c.facultad_id
+ON CONFLICT (id) DO NOTHING;
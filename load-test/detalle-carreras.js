@@ -0,0 +1,39 @@
+// Prueba de carga de los endpoints de consulta de carreras y facultades.
+// Uso: k6 run -e BASE_URL=http://localhost:8080 -e VUS=200 load-test/detalle-carreras.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = parseInt(__ENV.VUS || '200', 10);
+
+export const options = {
+    stages: [
+        { duration: '30s', target: VUS },
+        { duration: '2m', target: VUS },
+        { duration: '15s', target: 0 },
+    ],
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+export function setup() {
+    const carreras = http.get(`${BASE_URL}/api/v1/carreras?size=100`).json('content') || [];
+    const facultades = http.get(`${BASE_URL}/api/v1/facultades`).json() || [];
+    return {
+        carreraIds: carreras.map((c) => c.id),
+        facultadIds: facultades.map((f) => f.id),
+    };
+}
+
+export default function (data) {
+    if (data.carreraIds.length > 0) {
+        const id = data.carreraIds[Math.floor(Math.random() * data.carreraIds.length)];
+        check(http.get(`${BASE_URL}/api/v1/carreras/${id}`), { 'carrera 200': (r) => r.status === 200 });
+    }
+    if (data.facultadIds.length > 0) {
+        const id = data.facultadIds[Math.floor(Math.random() * data.facultadIds.length)];
+        check(http.get(`${BASE_URL}/api/v1/facultades/${id}`), { 'facultad 200': (r) => r.status === 200 });
+        check(http.get(`${BASE_URL}/api/v1/carreras/facultad/${id}`), { 'listado 200': (r) => r.status === 200 });
+    }
+}
@@ -0,0 +1,121 @@
+package com.university.cleanarchitecture.benchmark;
+
+import com.university.cleanarchitecture.application.dto.query.FindCarreraByIdQuery;
+import com.university.cleanarchitecture.application.dto.query.FindCarrerasByDuracionQuery;
+import com.university.cleanarchitecture.application.dto.query.FindCarrerasByFacultadQuery;
+import com.university.cleanarchitecture.application.dto.query.FindCarrerasPageQuery;
+import com.university.cleanarchitecture.application.dto.response.CarreraResponse;
+import com.university.cleanarchitecture.application.dto.response.CarreraSummaryResponse;
+import com.university.cleanarchitecture.application.dto.response.PageResponse;
+import com.university.cleanarchitecture.application.mapper.CarreraMapper;
+import com.university.cleanarchitecture.application.service.CarreraApplicationService;
+import com.university.cleanarchitecture.application.service.FanOutExecutor;
+import com.university.cleanarchitecture.benchmark.support.InMemoryCarreraRepository;
+import com.university.cleanarchitecture.benchmark.support.InMemoryCarreraView;
+import com.university.cleanarchitecture.benchmark.support.InMemoryFacultadRepository;
+import com.university.cleanarchitecture.benchmark.support.SequentialIdAllocator;
+import com.university.cleanarchitecture.domain.model.Carrera;
+import com.university.cleanarchitecture.domain.model.Facultad;
+import com.university.cleanarchitecture.domain.model.valueobjects.CarreraId;
+import com.university.cleanarchitecture.domain.model.valueobjects.Duracion;
+import com.university.cleanarchitecture.domain.model.valueobjects.FacultadId;
+import com.university.cleanarchitecture.domain.model.valueobjects.NombreAcademico;
+import com.university.cleanarchitecture.domain.service.CarreraDomainService;
+import com.university.cleanarchitecture.infrastructure.config.DomainConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide los casos de uso de consulta completos contra repositorios en memoria, de modo que el
+ * resultado refleja sólo el coste de la capa de aplicación y dominio. Las consultas leen de una
+ * proyección carrera_view en memoria, igual que en producción.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CarreraApplicationServiceBenchmark {
+
+    private static final int FACULTADES = 10;
+
+    @Param({"100", "1000"})
+    public int carreras;
+
+    private CarreraApplicationService service;
+    private FindCarreraByIdQuery findByIdQuery;
+    private FindCarrerasByFacultadQuery findByFacultadQuery;
+    private FindCarrerasByDuracionQuery findByDuracionQuery;
+    private FindCarrerasPageQuery firstPageQuery;
+
+    @Setup
+    public void setUp() {
+        InMemoryCarreraRepository carreraRepository = new InMemoryCarreraRepository();
+        InMemoryFacultadRepository facultadRepository = new InMemoryFacultadRepository();
+
+        for (long f = 1; f <= FACULTADES; f++) {
+            facultadRepository.save(Facultad.crear(FacultadId.of(f),
+                    NombreAcademico.of("Facultad de Ciencias " + f),
+                    "Descripción " + f, "Pabellón " + f, "Decano " + f));
+        }
+        for (long c = 1; c <= carreras; c++) {
+            carreraRepository.save(Carrera.crear(CarreraId.of(c),
+                    FacultadId.of(c % FACULTADES + 1),
+                    NombreAcademico.of("Ingeniería de la Carrera " + c),
+                    "Descripción de la carrera " + c,
+                    Duracion.of(6 + (int) (c % 9)),
+                    "Título Profesional " + c));
+        }
+
+        DomainConfiguration domainConfiguration = new DomainConfiguration();
+        CarreraDomainService domainService = domainConfiguration.carreraDomainService(
+                domainConfiguration.carreraRepository(carreraRepository),
+                domainConfiguration.facultadRepository(facultadRepository));
+
+        InMemoryCarreraView carreraView = new InMemoryCarreraView();
+        carreraView.refresh(carreraRepository, facultadRepository);
+
+        service = new CarreraApplicationService(carreraRepository, carreraView, facultadRepository,
+                domainService, new CarreraMapper(), new SequentialIdAllocator(),
+                FanOutExecutor.secuencial(), eventos -> { }, eventos -> { });
+
+        findByIdQuery = new FindCarreraByIdQuery((long) carreras / 2);
+        findByFacultadQuery = new FindCarrerasByFacultadQuery(1L, true);
+        findByDuracionQuery = new FindCarrerasByDuracionQuery(null, 8, 12, true);
+        firstPageQuery = new FindCarrerasPageQuery(null, null, null, null, true, null, null,
+                FindCarrerasPageQuery.DEFAULT_SIZE);
+    }
+
+    @Benchmark
+    public CarreraResponse findById() {
+        return service.findById(findByIdQuery);
+    }
+
+    @Benchmark
+    public List<CarreraSummaryResponse> findByFacultad() {
+        return service.findByFacultad(findByFacultadQuery);
+    }
+
+    @Benchmark
+    public List<CarreraSummaryResponse> findByDuracion() {
+        return service.findByDuracion(findByDuracionQuery);
+    }
+
+    @Benchmark
+    public PageResponse<CarreraSummaryResponse> findFirstPage() {
+        return service.findPage(firstPageQuery);
+    }
+}
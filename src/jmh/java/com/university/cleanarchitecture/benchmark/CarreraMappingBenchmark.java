@@ -0,0 +1,63 @@
+package com.university.cleanarchitecture.benchmark;
+
+import com.university.cleanarchitecture.application.dto.response.CarreraSummaryResponse;
+import com.university.cleanarchitecture.application.mapper.CarreraMapper;
+import com.university.cleanarchitecture.domain.model.Carrera;
+import com.university.cleanarchitecture.infrastructure.adapter.out.persistence.jpa.entity.CarreraJpaEntity;
+import com.university.cleanarchitecture.infrastructure.adapter.out.persistence.mapper.CarreraJpaMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide el mapeo por fila entre capas: entidad JPA → dominio y dominio → resumen de respuesta.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CarreraMappingBenchmark {
+
+    private final CarreraJpaMapper jpaMapper = new CarreraJpaMapper();
+    private final CarreraMapper carreraMapper = new CarreraMapper();
+
+    private CarreraJpaEntity entity;
+    private Carrera carrera;
+
+    @Setup
+    public void setUp() {
+        entity = new CarreraJpaEntity();
+        entity.setId(42L);
+        entity.setFacultadId(7L);
+        entity.setNombre("Ingeniería de Sistemas e Informática");
+        entity.setDescripcion("Formación en desarrollo de software y gestión de tecnologías de información");
+        entity.setDuracionSemestres(10);
+        entity.setTituloOtorgado("Ingeniero de Sistemas e Informática");
+        entity.setFechaRegistro(LocalDateTime.of(2024, 3, 1, 8, 0));
+        entity.setActivo(true);
+
+        carrera = jpaMapper.toDomainModel(entity);
+    }
+
+    @Benchmark
+    public Carrera jpaEntityToDomain() {
+        return jpaMapper.toDomainModel(entity);
+    }
+
+    @Benchmark
+    public CarreraSummaryResponse domainToSummaryResponse() {
+        return carreraMapper.toSummaryResponse(carrera, "Facultad de Ingeniería");
+    }
+}
@@ -0,0 +1,66 @@
+package com.university.cleanarchitecture.benchmark;
+
+import com.university.cleanarchitecture.benchmark.support.LegacyNombreNormalizer;
+import com.university.cleanarchitecture.domain.model.valueobjects.NombreAcademico;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide la construcción (validación + normalización) de NombreAcademico y el cálculo de iniciales,
+ * que se ejecutan una vez por fila leída de la base de datos. Los métodos *Legacy ejecutan el
+ * algoritmo original para comparar tiempo y gc.alloc.rate.norm.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NombreAcademicoBenchmark {
+
+    @Param({
+            "Ingeniería de Sistemas",
+            "ingeniería DE sistemas",
+            "  facultad   de ciencias de la   salud  ",
+            "ADMINISTRACIÓN Y GESTIÓN DE EMPRESAS DEL SECTOR PÚBLICO Y PRIVADO EN LA REGIÓN"
+    })
+    public String nombre;
+
+    private NombreAcademico normalizado;
+
+    @Setup
+    public void setUp() {
+        normalizado = NombreAcademico.of(nombre);
+    }
+
+    @Benchmark
+    public NombreAcademico construir() {
+        return new NombreAcademico(nombre);
+    }
+
+    @Benchmark
+    public String construirLegacy() {
+        return LegacyNombreNormalizer.normalizar(nombre);
+    }
+
+    @Benchmark
+    public String iniciales() {
+        return normalizado.getIniciales();
+    }
+
+    @Benchmark
+    public String inicialesLegacy() {
+        return LegacyNombreNormalizer.iniciales(normalizado.getValue());
+    }
+}
@@ -0,0 +1,141 @@
+package com.university.cleanarchitecture.benchmark.support;
+
+import com.university.cleanarchitecture.application.port.out.CarreraRepositoryPort;
+import com.university.cleanarchitecture.domain.model.Carrera;
+import com.university.cleanarchitecture.domain.model.valueobjects.CarreraId;
+import com.university.cleanarchitecture.domain.model.valueobjects.FacultadId;
+import com.university.cleanarchitecture.domain.model.valueobjects.NombreAcademico;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * CarreraRepositoryPort en memoria para aislar el coste de los servicios de aplicación
+ * del acceso a base de datos en los benchmarks.
+ */
+public class InMemoryCarreraRepository implements CarreraRepositoryPort {
+
+    private final TreeMap<Long, Carrera> carreras = new TreeMap<>();
+
+    @Override
+    public Carrera save(Carrera carrera) {
+        carreras.put(carrera.getId().getValue(), carrera);
+        return carrera;
+    }
+
+    @Override
+    public List<Carrera> insertAll(List<Carrera> nuevas) {
+        nuevas.forEach(this::save);
+        return nuevas;
+    }
+
+    @Override
+    public Optional<Carrera> findById(CarreraId id) {
+        return Optional.ofNullable(carreras.get(id.getValue()));
+    }
+
+    @Override
+    public Optional<Carrera> findByNombre(NombreAcademico nombre) {
+        return carreras.values().stream().filter(c -> c.getNombre().equals(nombre)).findFirst();
+    }
+
+    @Override
+    public List<Carrera> findByFacultadId(FacultadId facultadId) {
+        return filter(c -> c.getFacultadId().equals(facultadId));
+    }
+
+    @Override
+    public List<Carrera> findActiveByFacultadId(FacultadId facultadId) {
+        return filter(c -> c.getFacultadId().equals(facultadId) && c.isActivo());
+    }
+
+    @Override
+    public List<Carrera> findByDuracionSemestres(int semestres) {
+        return filter(c -> c.getDuracion().getSemestres() == semestres);
+    }
+
+    @Override
+    public List<Carrera> findByDuracionBetween(int minSemestres, int maxSemestres) {
+        return filter(c -> c.getDuracion().getSemestres() >= minSemestres
+                && c.getDuracion().getSemestres() <= maxSemestres);
+    }
+
+    @Override
+    public List<Carrera> findAllActive() {
+        return filter(Carrera::isActivo);
+    }
+
+    @Override
+    public List<Carrera> findAll() {
+        return List.copyOf(carreras.values());
+    }
+
+    @Override
+    public List<Carrera> search(String texto, boolean soloActivas, long offset, int limit) {
+        return carreras.values().stream().filter(matches(texto, soloActivas)).skip(offset).limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public long countSearch(String texto, boolean soloActivas) {
+        return carreras.values().stream().filter(matches(texto, soloActivas)).count();
+    }
+
+    @Override
+    public List<Carrera> findByTituloOtorgadoContaining(String tituloOtorgado) {
+        return carreras.values().stream().filter(c -> c.getTituloOtorgado().contains(tituloOtorgado))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean existsByNombre(NombreAcademico nombre) {
+        return findByNombre(nombre).isPresent();
+    }
+
+    @Override
+    public Set<NombreAcademico> findExistingNombres(Set<NombreAcademico> nombres) {
+        return carreras.values().stream().map(Carrera::getNombre).filter(nombres::contains)
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public boolean existsByNombreAndIdNot(NombreAcademico nombre, CarreraId id) {
+        return carreras.values().stream().anyMatch(c -> c.getNombre().equals(nombre) && !c.getId().equals(id));
+    }
+
+    @Override
+    public int countActiveByFacultadId(FacultadId facultadId) {
+        return findActiveByFacultadId(facultadId).size();
+    }
+
+    @Override
+    public Map<FacultadId, Integer> countActiveByFacultadIds(Set<FacultadId> facultadIds) {
+        Map<FacultadId, Integer> conteos = new HashMap<>();
+        for (Carrera carrera : carreras.values()) {
+            if (carrera.isActivo() && facultadIds.contains(carrera.getFacultadId())) {
+                conteos.merge(carrera.getFacultadId(), 1, Integer::sum);
+            }
+        }
+        return conteos;
+    }
+
+    @Override
+    public void deleteById(CarreraId id) {
+        carreras.remove(id.getValue());
+    }
+
+    private List<Carrera> filter(Predicate<Carrera> predicate) {
+        return carreras.values().stream().filter(predicate).collect(Collectors.toList());
+    }
+
+    private Predicate<Carrera> matches(String texto, boolean soloActivas) {
+        String buscado = texto.toUpperCase();
+        return c -> (!soloActivas || c.isActivo()) && c.getNombre().getValue().toUpperCase().contains(buscado);
+    }
+}
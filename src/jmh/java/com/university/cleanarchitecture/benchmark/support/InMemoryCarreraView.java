@@ -0,0 +1,93 @@
+package com.university.cleanarchitecture.benchmark.support;
+
+import com.university.cleanarchitecture.application.dto.response.CarreraResponse;
+import com.university.cleanarchitecture.application.dto.response.CarreraSummaryResponse;
+import com.university.cleanarchitecture.application.mapper.CarreraMapper;
+import com.university.cleanarchitecture.application.port.out.CarreraRepositoryPort;
+import com.university.cleanarchitecture.application.port.out.CarreraSearchCriteria;
+import com.university.cleanarchitecture.application.port.out.CarreraViewPort;
+import com.university.cleanarchitecture.application.port.out.FacultadRepositoryPort;
+import com.university.cleanarchitecture.domain.model.Carrera;
+import com.university.cleanarchitecture.domain.model.valueobjects.CarreraId;
+import com.university.cleanarchitecture.domain.model.valueobjects.FacultadId;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * CarreraViewPort en memoria: como carrera_view, guarda las respuestas ya calculadas.
+ * refresh() la reconstruye a partir de los repositorios en memoria.
+ */
+public class InMemoryCarreraView implements CarreraViewPort {
+
+    private final TreeMap<Long, CarreraResponse> filas = new TreeMap<>();
+    private final TreeMap<Long, CarreraSummaryResponse> resumenes = new TreeMap<>();
+
+    public void refresh(CarreraRepositoryPort carreraRepository, FacultadRepositoryPort facultadRepository) {
+        CarreraMapper mapper = new CarreraMapper();
+        filas.clear();
+        resumenes.clear();
+        for (Carrera carrera : carreraRepository.findAll()) {
+            String facultadNombre = facultadRepository.findById(carrera.getFacultadId())
+                    .map(facultad -> facultad.getNombre().getValue())
+                    .orElseThrow();
+            filas.put(carrera.getId().getValue(), mapper.toResponse(carrera, facultadNombre));
+            resumenes.put(carrera.getId().getValue(), mapper.toSummaryResponse(carrera, facultadNombre));
+        }
+    }
+
+    @Override
+    public Optional<CarreraResponse> findById(CarreraId id) {
+        return Optional.ofNullable(filas.get(id.getValue()));
+    }
+
+    @Override
+    public List<CarreraSummaryResponse> findByFacultadId(FacultadId facultadId, boolean soloActivas) {
+        return filter(resumenes, c -> c.getFacultadId().equals(facultadId.getValue()) && (!soloActivas || c.isActivo()));
+    }
+
+    @Override
+    public List<CarreraSummaryResponse> findByDuracionBetween(int minSemestres, int maxSemestres, boolean soloActivas) {
+        return filter(resumenes, c -> c.getDuracionSemestres() >= minSemestres
+                && c.getDuracionSemestres() <= maxSemestres && (!soloActivas || c.isActivo()));
+    }
+
+    @Override
+    public List<CarreraSummaryResponse> findPageAfter(CarreraSearchCriteria criteria, CarreraId afterId, int limit) {
+        Map<Long, CarreraSummaryResponse> desde = afterId == null ? resumenes : resumenes.tailMap(afterId.getValue(), false);
+        return desde.values().stream().filter(matches(criteria)).limit(limit).collect(Collectors.toList());
+    }
+
+    @Override
+    public List<CarreraSummaryResponse> findPageByOffset(CarreraSearchCriteria criteria, long offset, int limit) {
+        return resumenes.values().stream().filter(matches(criteria)).skip(offset).limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public long count(CarreraSearchCriteria criteria) {
+        return resumenes.values().stream().filter(matches(criteria)).count();
+    }
+
+    @Override
+    public Stream<CarreraResponse> streamAll() {
+        return filas.values().stream();
+    }
+
+    private List<CarreraSummaryResponse> filter(Map<Long, CarreraSummaryResponse> origen,
+                                                Predicate<CarreraSummaryResponse> condicion) {
+        return origen.values().stream().filter(condicion).collect(Collectors.toList());
+    }
+
+    private Predicate<CarreraSummaryResponse> matches(CarreraSearchCriteria criteria) {
+        return c -> (criteria.getFacultadId() == null || c.getFacultadId().equals(criteria.getFacultadId().getValue()))
+                && (criteria.getMinSemestres() == null || c.getDuracionSemestres() >= criteria.getMinSemestres())
+                && (criteria.getMaxSemestres() == null || c.getDuracionSemestres() <= criteria.getMaxSemestres())
+                && (!criteria.isSoloActivas() || c.isActivo());
+    }
+}
@@ -0,0 +1,93 @@
+package com.university.cleanarchitecture.benchmark.support;
+
+import com.university.cleanarchitecture.application.port.out.FacultadRepositoryPort;
+import com.university.cleanarchitecture.domain.model.Facultad;
+import com.university.cleanarchitecture.domain.model.valueobjects.FacultadId;
+import com.university.cleanarchitecture.domain.model.valueobjects.NombreAcademico;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * FacultadRepositoryPort en memoria para los benchmarks.
+ */
+public class InMemoryFacultadRepository implements FacultadRepositoryPort {
+
+    private final Map<FacultadId, Facultad> facultades = new HashMap<>();
+
+    @Override
+    public Facultad save(Facultad facultad) {
+        facultades.put(facultad.getId(), facultad);
+        return facultad;
+    }
+
+    @Override
+    public Optional<Facultad> findById(FacultadId id) {
+        return Optional.ofNullable(facultades.get(id));
+    }
+
+    @Override
+    public Map<FacultadId, Facultad> findAllByIds(Set<FacultadId> ids) {
+        Map<FacultadId, Facultad> encontradas = new HashMap<>();
+        for (FacultadId id : ids) {
+            Facultad facultad = facultades.get(id);
+            if (facultad != null) {
+                encontradas.put(id, facultad);
+            }
+        }
+        return encontradas;
+    }
+
+    @Override
+    public Optional<Facultad> findByNombre(NombreAcademico nombre) {
+        return facultades.values().stream().filter(f -> f.getNombre().equals(nombre)).findFirst();
+    }
+
+    @Override
+    public Map<FacultadId, String> findNombresByIds(Set<FacultadId> ids) {
+        Map<FacultadId, String> nombres = new HashMap<>();
+        findAllByIds(ids).forEach((id, facultad) -> nombres.put(id, facultad.getNombre().getValue()));
+        return nombres;
+    }
+
+    @Override
+    public List<Facultad> findAllActive() {
+        return facultades.values().stream().filter(Facultad::isActivo).collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Facultad> findAll() {
+        return List.copyOf(facultades.values());
+    }
+
+    @Override
+    public List<Facultad> findByUbicacion(String ubicacion) {
+        return facultades.values().stream()
+                .filter(f -> f.getUbicacion() != null && f.getUbicacion().strip().equalsIgnoreCase(ubicacion.strip()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean existsByNombre(NombreAcademico nombre) {
+        return findByNombre(nombre).isPresent();
+    }
+
+    @Override
+    public boolean existsByNombreAndIdNot(NombreAcademico nombre, FacultadId id) {
+        return facultades.values().stream().anyMatch(f -> f.getNombre().equals(nombre) && !f.getId().equals(id));
+    }
+
+    @Override
+    public int countCarrerasByFacultadId(FacultadId facultadId) {
+        return 0;
+    }
+
+    @Override
+    public void deleteById(FacultadId id) {
+        facultades.remove(id);
+    }
+}
@@ -0,0 +1,56 @@
+package com.university.cleanarchitecture.benchmark.support;
+
+/**
+ * Copia de la normalización original de NombreAcademico (split por expresión regular y
+ * substring/toLowerCase por palabra), usada como línea base en los benchmarks.
+ */
+public final class LegacyNombreNormalizer {
+
+    private LegacyNombreNormalizer() {
+    }
+
+    public static String normalizar(String value) {
+        String nombre = value.trim();
+        String[] palabras = nombre.split("\\s+");
+        StringBuilder resultado = new StringBuilder();
+
+        for (int i = 0; i < palabras.length; i++) {
+            if (i > 0) {
+                resultado.append(" ");
+            }
+
+            String palabra = palabras[i];
+            if (!palabra.isEmpty()) {
+                if (esPalabraMinuscula(palabra.toLowerCase())) {
+                    resultado.append(palabra.toLowerCase());
+                } else {
+                    resultado.append(palabra.substring(0, 1).toUpperCase());
+                    if (palabra.length() > 1) {
+                        resultado.append(palabra.substring(1).toLowerCase());
+                    }
+                }
+            }
+        }
+
+        return resultado.toString();
+    }
+
+    public static String iniciales(String value) {
+        String[] palabras = value.split("\\s+");
+        StringBuilder iniciales = new StringBuilder();
+
+        for (String palabra : palabras) {
+            if (!palabra.isEmpty() && !esPalabraMinuscula(palabra.toLowerCase())) {
+                iniciales.append(palabra.charAt(0));
+            }
+        }
+
+        return iniciales.toString().toUpperCase();
+    }
+
+    private static boolean esPalabraMinuscula(String palabra) {
+        return palabra.equals("de") || palabra.equals("del") || palabra.equals("la") ||
+                palabra.equals("las") || palabra.equals("los") || palabra.equals("el") ||
+                palabra.equals("y") || palabra.equals("e");
+    }
+}
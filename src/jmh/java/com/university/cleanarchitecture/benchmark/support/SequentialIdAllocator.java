@@ -0,0 +1,23 @@
+package com.university.cleanarchitecture.benchmark.support;
+
+import com.university.cleanarchitecture.application.port.out.IdAllocatorPort;
+import com.university.cleanarchitecture.domain.model.valueobjects.CarreraId;
+import com.university.cleanarchitecture.domain.model.valueobjects.FacultadId;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public class SequentialIdAllocator implements IdAllocatorPort {
+
+    private final AtomicLong carreras = new AtomicLong(1_000_000);
+    private final AtomicLong facultades = new AtomicLong(1_000_000);
+
+    @Override
+    public CarreraId nextCarreraId() {
+        return CarreraId.of(carreras.getAndIncrement());
+    }
+
+    @Override
+    public FacultadId nextFacultadId() {
+        return FacultadId.of(facultades.getAndIncrement());
+    }
+}
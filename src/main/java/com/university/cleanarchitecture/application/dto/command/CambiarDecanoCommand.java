@@ -3,6 +3,7 @@ package com.university.cleanarchitecture.application.dto.command;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import jakarta.validation.constraints.Size;
 
 public class CambiarDecanoCommand {
@@ -15,6 +16,10 @@ public class CambiarDecanoCommand {
     @Size(min = 3, max = 100, message = "El nombre del decano debe tener entre 3 y 100 caracteres")
     private String nuevoDecano;
 
+    @NotNull(message = "La versión es obligatoria")
+    @PositiveOrZero(message = "La versión no puede ser negativa")
+    private Long version;
+
     // Constructor por defecto
     public CambiarDecanoCommand() {}
 
@@ -24,11 +29,18 @@ public class CambiarDecanoCommand {
         this.nuevoDecano = nuevoDecano;
     }
 
+    public CambiarDecanoCommand(Long facultadId, String nuevoDecano, Long version) {
+        this(facultadId, nuevoDecano);
+        this.version = version;
+    }
+
     // Getters y Setters
     public Long getFacultadId() { return facultadId; }
     public void setFacultadId(Long facultadId) { this.facultadId = facultadId; }
 
     public String getNuevoDecano() { return nuevoDecano; }
     public void setNuevoDecano(String nuevoDecano) { this.nuevoDecano = nuevoDecano; }
-}
 
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+}
@@ -0,0 +1,29 @@
+package com.university.cleanarchitecture.application.dto.command;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class RegisterCarrerasBatchCommand {
+
+    public static final int MAX_ITEMS = 500;
+
+    @NotEmpty(message = "Debe incluir al menos una carrera")
+    @Size(max = MAX_ITEMS, message = "No se pueden registrar más de " + MAX_ITEMS + " carreras por lote")
+    private List<@NotNull(message = "Las carreras del lote no pueden ser nulas") @Valid RegisterCarreraCommand> carreras;
+
+    // Constructor por defecto
+    public RegisterCarrerasBatchCommand() {}
+
+    // Constructor completo
+    public RegisterCarrerasBatchCommand(List<RegisterCarreraCommand> carreras) {
+        this.carreras = carreras;
+    }
+
+    // Getters y Setters
+    public List<RegisterCarreraCommand> getCarreras() { return carreras; }
+    public void setCarreras(List<RegisterCarreraCommand> carreras) { this.carreras = carreras; }
+}
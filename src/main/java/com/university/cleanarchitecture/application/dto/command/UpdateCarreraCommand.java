@@ -24,6 +24,10 @@ public class UpdateCarreraCommand {
     @Size(min = 5, max = 100, message = "El título otorgado debe tener entre 5 y 100 caracteres")
     private String tituloOtorgado;
 
+    @NotNull(message = "La versión es obligatoria")
+    @PositiveOrZero(message = "La versión no puede ser negativa")
+    private Long version;
+
     // Constructor por defecto
     public UpdateCarreraCommand() {}
 
@@ -37,6 +41,12 @@ public class UpdateCarreraCommand {
         this.tituloOtorgado = tituloOtorgado;
     }
 
+    public UpdateCarreraCommand(Long carreraId, String nombre, String descripcion,
+                                Integer duracionSemestres, String tituloOtorgado, Long version) {
+        this(carreraId, nombre, descripcion, duracionSemestres, tituloOtorgado);
+        this.version = version;
+    }
+
     // Getters y Setters
     public Long getCarreraId() { return carreraId; }
     public void setCarreraId(Long carreraId) { this.carreraId = carreraId; }
@@ -52,4 +62,7 @@ public class UpdateCarreraCommand {
 
     public String getTituloOtorgado() { return tituloOtorgado; }
     public void setTituloOtorgado(String tituloOtorgado) { this.tituloOtorgado = tituloOtorgado; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 }
@@ -3,6 +3,7 @@ package com.university.cleanarchitecture.application.dto.command;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import jakarta.validation.constraints.Size;
 
 public class UpdateFacultadCommand {
@@ -21,6 +22,10 @@ public class UpdateFacultadCommand {
     @Size(max = 100, message = "La ubicación no puede exceder 100 caracteres")
     private String ubicacion;
 
+    @NotNull(message = "La versión es obligatoria")
+    @PositiveOrZero(message = "La versión no puede ser negativa")
+    private Long version;
+
     // Constructor por defecto
     public UpdateFacultadCommand() {}
 
@@ -32,6 +37,12 @@ public class UpdateFacultadCommand {
         this.ubicacion = ubicacion;
     }
 
+    public UpdateFacultadCommand(Long facultadId, String nombre, String descripcion, String ubicacion,
+                                 Long version) {
+        this(facultadId, nombre, descripcion, ubicacion);
+        this.version = version;
+    }
+
     // Getters y Setters
     public Long getFacultadId() { return facultadId; }
     public void setFacultadId(Long facultadId) { this.facultadId = facultadId; }
@@ -44,5 +55,7 @@ public class UpdateFacultadCommand {
 
     public String getUbicacion() { return ubicacion; }
     public void setUbicacion(String ubicacion) { this.ubicacion = ubicacion; }
-}
 
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+}
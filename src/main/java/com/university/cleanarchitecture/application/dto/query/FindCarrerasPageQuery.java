@@ -0,0 +1,77 @@
+package com.university.cleanarchitecture.application.dto.query;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+
+public class FindCarrerasPageQuery {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    @Positive(message = "El ID debe ser un número positivo")
+    private Long facultadId;
+
+    @Min(value = 6, message = "La duración mínima es de 6 semestres")
+    @Max(value = 14, message = "La duración máxima es de 14 semestres")
+    private Integer duracionSemestres;
+
+    @Min(value = 6, message = "La duración mínima es de 6 semestres")
+    private Integer duracionMinima;
+
+    @Max(value = 14, message = "La duración máxima es de 14 semestres")
+    private Integer duracionMaxima;
+
+    private boolean soloActivas;
+
+    // Paginación por cursor (keyset sobre id)
+    private String cursor;
+
+    // Paginación por offset (opcional, excluyente con cursor)
+    @PositiveOrZero(message = "El número de página no puede ser negativo")
+    private Integer page;
+
+    @Min(value = 1, message = "El tamaño de página mínimo es 1")
+    @Max(value = MAX_SIZE, message = "El tamaño de página máximo es " + MAX_SIZE)
+    private int size = DEFAULT_SIZE;
+
+    public FindCarrerasPageQuery() {}
+
+    public FindCarrerasPageQuery(Long facultadId, Integer duracionSemestres, Integer duracionMinima,
+                                 Integer duracionMaxima, boolean soloActivas,
+                                 String cursor, Integer page, int size) {
+        this.facultadId = facultadId;
+        this.duracionSemestres = duracionSemestres;
+        this.duracionMinima = duracionMinima;
+        this.duracionMaxima = duracionMaxima;
+        this.soloActivas = soloActivas;
+        this.cursor = cursor;
+        this.page = page;
+        this.size = size;
+    }
+
+    public Long getFacultadId() { return facultadId; }
+    public void setFacultadId(Long facultadId) { this.facultadId = facultadId; }
+
+    public Integer getDuracionSemestres() { return duracionSemestres; }
+    public void setDuracionSemestres(Integer duracionSemestres) { this.duracionSemestres = duracionSemestres; }
+
+    public Integer getDuracionMinima() { return duracionMinima; }
+    public void setDuracionMinima(Integer duracionMinima) { this.duracionMinima = duracionMinima; }
+
+    public Integer getDuracionMaxima() { return duracionMaxima; }
+    public void setDuracionMaxima(Integer duracionMaxima) { this.duracionMaxima = duracionMaxima; }
+
+    public boolean isSoloActivas() { return soloActivas; }
+    public void setSoloActivas(boolean soloActivas) { this.soloActivas = soloActivas; }
+
+    public String getCursor() { return cursor; }
+    public void setCursor(String cursor) { this.cursor = cursor; }
+
+    public Integer getPage() { return page; }
+    public void setPage(Integer page) { this.page = page; }
+
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+}
@@ -0,0 +1,26 @@
+package com.university.cleanarchitecture.application.dto.query;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public class FindFacultadesByUbicacionQuery {
+
+    @NotBlank(message = "La ubicación es obligatoria")
+    @Size(max = 200, message = "La ubicación no puede exceder 200 caracteres")
+    private String ubicacion;
+
+    private boolean incluirInactivas;
+
+    public FindFacultadesByUbicacionQuery() {}
+
+    public FindFacultadesByUbicacionQuery(String ubicacion, boolean incluirInactivas) {
+        this.ubicacion = ubicacion;
+        this.incluirInactivas = incluirInactivas;
+    }
+
+    public String getUbicacion() { return ubicacion; }
+    public void setUbicacion(String ubicacion) { this.ubicacion = ubicacion; }
+
+    public boolean isIncluirInactivas() { return incluirInactivas; }
+    public void setIncluirInactivas(boolean incluirInactivas) { this.incluirInactivas = incluirInactivas; }
+}
@@ -0,0 +1,31 @@
+package com.university.cleanarchitecture.application.dto.query;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+public class GetChangesQuery {
+
+    public static final int DEFAULT_LIMIT = 100;
+    public static final int MAX_LIMIT = 500;
+
+    // Cursor devuelto por la respuesta anterior; nulo para empezar desde el principio
+    private String since;
+
+    // Máximo de elementos por tipo (facultades y carreras)
+    @Min(value = 1, message = "El límite mínimo es 1")
+    @Max(value = MAX_LIMIT, message = "El límite máximo es " + MAX_LIMIT)
+    private int limit = DEFAULT_LIMIT;
+
+    public GetChangesQuery() {}
+
+    public GetChangesQuery(String since, int limit) {
+        this.since = since;
+        this.limit = limit;
+    }
+
+    public String getSince() { return since; }
+    public void setSince(String since) { this.since = since; }
+
+    public int getLimit() { return limit; }
+    public void setLimit(int limit) { this.limit = limit; }
+}
@@ -0,0 +1,48 @@
+package com.university.cleanarchitecture.application.dto.query;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+
+public class SearchCarrerasQuery {
+
+    public static final int MIN_TEXTO = 2;
+    public static final int MAX_TEXTO = 100;
+
+    @NotBlank(message = "El texto de búsqueda es obligatorio")
+    @Size(min = MIN_TEXTO, max = MAX_TEXTO,
+            message = "El texto de búsqueda debe tener entre " + MIN_TEXTO + " y " + MAX_TEXTO + " caracteres")
+    private String texto;
+
+    private boolean soloActivas;
+
+    @PositiveOrZero(message = "El número de página no puede ser negativo")
+    private int page;
+
+    @Min(value = 1, message = "El tamaño de página mínimo es 1")
+    @Max(value = FindCarrerasPageQuery.MAX_SIZE, message = "El tamaño de página máximo es " + FindCarrerasPageQuery.MAX_SIZE)
+    private int size = FindCarrerasPageQuery.DEFAULT_SIZE;
+
+    public SearchCarrerasQuery() {}
+
+    public SearchCarrerasQuery(String texto, boolean soloActivas, int page, int size) {
+        this.texto = texto;
+        this.soloActivas = soloActivas;
+        this.page = page;
+        this.size = size;
+    }
+
+    public String getTexto() { return texto; }
+    public void setTexto(String texto) { this.texto = texto; }
+
+    public boolean isSoloActivas() { return soloActivas; }
+    public void setSoloActivas(boolean soloActivas) { this.soloActivas = soloActivas; }
+
+    public int getPage() { return page; }
+    public void setPage(int page) { this.page = page; }
+
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+}
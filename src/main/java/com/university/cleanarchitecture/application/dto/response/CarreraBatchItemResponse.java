@@ -0,0 +1,49 @@
+package com.university.cleanarchitecture.application.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CarreraBatchItemResponse {
+
+    private int indice;
+    private boolean exitoso;
+    private CarreraResponse carrera;
+    private String codigoError;
+    private String mensajeError;
+
+    // Constructor por defecto
+    public CarreraBatchItemResponse() {}
+
+    public static CarreraBatchItemResponse exito(int indice, CarreraResponse carrera) {
+        CarreraBatchItemResponse response = new CarreraBatchItemResponse();
+        response.setIndice(indice);
+        response.setExitoso(true);
+        response.setCarrera(carrera);
+        return response;
+    }
+
+    public static CarreraBatchItemResponse error(int indice, String codigoError, String mensajeError) {
+        CarreraBatchItemResponse response = new CarreraBatchItemResponse();
+        response.setIndice(indice);
+        response.setExitoso(false);
+        response.setCodigoError(codigoError);
+        response.setMensajeError(mensajeError);
+        return response;
+    }
+
+    // Getters y Setters
+    public int getIndice() { return indice; }
+    public void setIndice(int indice) { this.indice = indice; }
+
+    public boolean isExitoso() { return exitoso; }
+    public void setExitoso(boolean exitoso) { this.exitoso = exitoso; }
+
+    public CarreraResponse getCarrera() { return carrera; }
+    public void setCarrera(CarreraResponse carrera) { this.carrera = carrera; }
+
+    public String getCodigoError() { return codigoError; }
+    public void setCodigoError(String codigoError) { this.codigoError = codigoError; }
+
+    public String getMensajeError() { return mensajeError; }
+    public void setMensajeError(String mensajeError) { this.mensajeError = mensajeError; }
+}
@@ -0,0 +1,27 @@
+package com.university.cleanarchitecture.application.dto.response;
+
+import java.util.List;
+
+public class CarreraBatchResponse {
+
+    private int total;
+    private int registradas;
+    private int fallidas;
+    private List<CarreraBatchItemResponse> resultados;
+
+    // Constructor por defecto
+    public CarreraBatchResponse() {}
+
+    // Getters y Setters
+    public int getTotal() { return total; }
+    public void setTotal(int total) { this.total = total; }
+
+    public int getRegistradas() { return registradas; }
+    public void setRegistradas(int registradas) { this.registradas = registradas; }
+
+    public int getFallidas() { return fallidas; }
+    public void setFallidas(int fallidas) { this.fallidas = fallidas; }
+
+    public List<CarreraBatchItemResponse> getResultados() { return resultados; }
+    public void setResultados(List<CarreraBatchItemResponse> resultados) { this.resultados = resultados; }
+}
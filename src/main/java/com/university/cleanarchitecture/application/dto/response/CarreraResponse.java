@@ -20,6 +20,8 @@ public class CarreraResponse {
     private String facultadNombre;
     private String clasificacion;
 
+    private Long version;
+
     // Constructor por defecto
     public CarreraResponse() {}
 
@@ -56,4 +58,7 @@ public class CarreraResponse {
 
     public String getClasificacion() { return clasificacion; }
     public void setClasificacion(String clasificacion) { this.clasificacion = clasificacion; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 }
@@ -0,0 +1,41 @@
+package com.university.cleanarchitecture.application.dto.response;
+
+import java.util.List;
+
+/**
+ * Facultades y carreras modificadas desde el cursor recibido.
+ *
+ * cursor se envía como since en la siguiente petición; con hasMore=true quedan cambios
+ * pendientes y conviene pedirlos sin esperar.
+ */
+public class ChangesResponse {
+
+    private List<FacultadSummaryResponse> facultades;
+    private List<CarreraSummaryResponse> carreras;
+    private String cursor;
+    private boolean hasMore;
+
+    // Constructor por defecto
+    public ChangesResponse() {}
+
+    public ChangesResponse(List<FacultadSummaryResponse> facultades, List<CarreraSummaryResponse> carreras,
+                           String cursor, boolean hasMore) {
+        this.facultades = facultades;
+        this.carreras = carreras;
+        this.cursor = cursor;
+        this.hasMore = hasMore;
+    }
+
+    // Getters y Setters
+    public List<FacultadSummaryResponse> getFacultades() { return facultades; }
+    public void setFacultades(List<FacultadSummaryResponse> facultades) { this.facultades = facultades; }
+
+    public List<CarreraSummaryResponse> getCarreras() { return carreras; }
+    public void setCarreras(List<CarreraSummaryResponse> carreras) { this.carreras = carreras; }
+
+    public String getCursor() { return cursor; }
+    public void setCursor(String cursor) { this.cursor = cursor; }
+
+    public boolean isHasMore() { return hasMore; }
+    public void setHasMore(boolean hasMore) { this.hasMore = hasMore; }
+}
@@ -17,6 +17,8 @@ public class FacultadResponse {
     private boolean activo;
     private int cantidadCarreras;
 
+    private Long version;
+
     // Constructor por defecto
     public FacultadResponse() {}
 
@@ -44,4 +46,7 @@ public class FacultadResponse {
 
     public int getCantidadCarreras() { return cantidadCarreras; }
     public void setCantidadCarreras(int cantidadCarreras) { this.cantidadCarreras = cantidadCarreras; }
-}
\ No newline at end of file
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+}
@@ -8,6 +8,7 @@ public class FacultadSummaryResponse {
     private String decano;
     private boolean activo;
     private int cantidadCarreras;
+    private Long version;
 
     // Constructor por defecto
     public FacultadSummaryResponse() {}
@@ -30,5 +31,8 @@ public class FacultadSummaryResponse {
 
     public int getCantidadCarreras() { return cantidadCarreras; }
     public void setCantidadCarreras(int cantidadCarreras) { this.cantidadCarreras = cantidadCarreras; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 }
 
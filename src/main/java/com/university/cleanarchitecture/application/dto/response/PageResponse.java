@@ -1,18 +1,28 @@
 package com.university.cleanarchitecture.application.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.List;
 
+/**
+ * Página de resultados.
+ *
+ * En paginación por cursor solo se informan content, pageSize, hasNext y nextCursor;
+ * los totales y el número de página se informan únicamente en paginación por offset.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class PageResponse<T> {
 
     private List<T> content;
-    private int pageNumber;
+    private Integer pageNumber;
     private int pageSize;
-    private long totalElements;
-    private int totalPages;
-    private boolean isFirst;
-    private boolean isLast;
+    private Long totalElements;
+    private Integer totalPages;
+    private Boolean isFirst;
+    private Boolean isLast;
     private boolean hasNext;
-    private boolean hasPrevious;
+    private Boolean hasPrevious;
+    private String nextCursor;
 
     // Constructor por defecto
     public PageResponse() {}
@@ -21,28 +31,30 @@ public class PageResponse<T> {
     public List<T> getContent() { return content; }
     public void setContent(List<T> content) { this.content = content; }
 
-    public int getPageNumber() { return pageNumber; }
-    public void setPageNumber(int pageNumber) { this.pageNumber = pageNumber; }
+    public Integer getPageNumber() { return pageNumber; }
+    public void setPageNumber(Integer pageNumber) { this.pageNumber = pageNumber; }
 
     public int getPageSize() { return pageSize; }
     public void setPageSize(int pageSize) { this.pageSize = pageSize; }
 
-    public long getTotalElements() { return totalElements; }
-    public void setTotalElements(long totalElements) { this.totalElements = totalElements; }
+    public Long getTotalElements() { return totalElements; }
+    public void setTotalElements(Long totalElements) { this.totalElements = totalElements; }
 
-    public int getTotalPages() { return totalPages; }
-    public void setTotalPages(int totalPages) { this.totalPages = totalPages; }
+    public Integer getTotalPages() { return totalPages; }
+    public void setTotalPages(Integer totalPages) { this.totalPages = totalPages; }
 
-    public boolean isFirst() { return isFirst; }
-    public void setFirst(boolean first) { isFirst = first; }
+    public Boolean getFirst() { return isFirst; }
+    public void setFirst(Boolean first) { isFirst = first; }
 
-    public boolean isLast() { return isLast; }
-    public void setLast(boolean last) { isLast = last; }
+    public Boolean getLast() { return isLast; }
+    public void setLast(Boolean last) { isLast = last; }
 
     public boolean isHasNext() { return hasNext; }
     public void setHasNext(boolean hasNext) { this.hasNext = hasNext; }
 
-    public boolean isHasPrevious() { return hasPrevious; }
-    public void setHasPrevious(boolean hasPrevious) { this.hasPrevious = hasPrevious; }
-}
+    public Boolean getHasPrevious() { return hasPrevious; }
+    public void setHasPrevious(Boolean hasPrevious) { this.hasPrevious = hasPrevious; }
 
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+}
@@ -0,0 +1,13 @@
+package com.university.cleanarchitecture.application.exception;
+
+import java.time.Duration;
+
+/**
+ * La consulta no terminó dentro del tiempo máximo asignado a la petición.
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+    public DeadlineExceededException(Duration deadline) {
+        super("La consulta superó el tiempo máximo de " + deadline.toMillis() + " ms");
+    }
+}
@@ -3,6 +3,7 @@ package com.university.cleanarchitecture.application.mapper;
 import com.university.cleanarchitecture.application.dto.response.CarreraResponse;
 import com.university.cleanarchitecture.application.dto.response.CarreraSummaryResponse;
 import com.university.cleanarchitecture.domain.model.Carrera;
+import com.university.cleanarchitecture.domain.model.valueobjects.Duracion;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -20,7 +21,8 @@ public class CarreraMapper {
         response.setActivo(carrera.isActivo());
         response.setFacultadId(carrera.getFacultadId().getValue());
         response.setFacultadNombre(facultadNombre);
-        response.setClasificacion(determinarClasificacion(carrera.getDuracion().getSemestres()));
+        response.setClasificacion(determinarClasificacion(carrera.getDuracion()));
+        response.setVersion(carrera.getVersion());
         return response;
     }
 
@@ -36,9 +38,10 @@ public class CarreraMapper {
         return response;
     }
 
-    private String determinarClasificacion(int semestres) {
-        if (semestres < 10) return "CORTA";
-        if (semestres == 10) return "ESTANDAR";
+    // También la usa CarreraViewAdapter: carrera_view solo guarda los semestres
+    public String determinarClasificacion(Duracion duracion) {
+        if (duracion.isCorta()) return "CORTA";
+        if (duracion.isEstandar()) return "ESTANDAR";
         return "LARGA";
     }
 }
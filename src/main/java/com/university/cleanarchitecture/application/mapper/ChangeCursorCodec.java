@@ -0,0 +1,59 @@
+package com.university.cleanarchitecture.application.mapper;
+
+import com.university.cleanarchitecture.application.port.out.ChangeFeedPosition;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Codifica las posiciones del feed de cambios (facultades y carreras) como un cursor opaco.
+ * El cliente solo debe devolverlo tal cual en la siguiente petición.
+ */
+public final class ChangeCursorCodec {
+
+    private static final String PREFIX = "chg:";
+
+    private ChangeCursorCodec() {
+    }
+
+    public static String encode(ChangeFeedPosition facultades, ChangeFeedPosition carreras) {
+        String raw = PREFIX + format(facultades) + ";" + format(carreras);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Posiciones de facultades y carreras, en ese orden
+     */
+    public static ChangeFeedPosition[] decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            if (raw.startsWith(PREFIX)) {
+                String[] partes = raw.substring(PREFIX.length()).split(";");
+                if (partes.length == 2) {
+                    return new ChangeFeedPosition[]{parse(partes[0]), parse(partes[1])};
+                }
+            }
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            // Base64 mal formado, id no numérico (NumberFormatException) o fecha inválida
+        }
+        throw new IllegalArgumentException("Cursor de cambios inválido: " + cursor);
+    }
+
+    private static String format(ChangeFeedPosition posicion) {
+        return posicion.getModificadoEn() + "," + posicion.getId();
+    }
+
+    private static ChangeFeedPosition parse(String valor) {
+        int separador = valor.lastIndexOf(',');
+        if (separador < 0) {
+            throw new IllegalArgumentException(valor);
+        }
+        long id = Long.parseLong(valor.substring(separador + 1));
+        if (id < 0) {
+            throw new IllegalArgumentException(valor);
+        }
+        return new ChangeFeedPosition(LocalDateTime.parse(valor.substring(0, separador)), id);
+    }
+}
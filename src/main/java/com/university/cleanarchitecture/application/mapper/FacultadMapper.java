@@ -18,6 +18,7 @@ public class FacultadMapper {
         response.setFechaRegistro(facultad.getFechaRegistro());
         response.setActivo(facultad.isActivo());
         response.setCantidadCarreras(cantidadCarreras);
+        response.setVersion(facultad.getVersion());
         return response;
     }
 
@@ -29,6 +30,7 @@ public class FacultadMapper {
         response.setDecano(facultad.getDecano());
         response.setActivo(facultad.isActivo());
         response.setCantidadCarreras(cantidadCarreras);
+        response.setVersion(facultad.getVersion());
         return response;
     }
 }
@@ -0,0 +1,37 @@
+package com.university.cleanarchitecture.application.mapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Codifica la posición de una página (último id entregado) como un cursor opaco.
+ * El cliente solo debe devolverlo tal cual en la siguiente petición.
+ */
+public final class PageCursorCodec {
+
+    private static final String PREFIX = "id:";
+
+    private PageCursorCodec() {
+    }
+
+    public static String encode(long lastId) {
+        byte[] raw = (PREFIX + lastId).getBytes(StandardCharsets.US_ASCII);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+
+    public static long decode(String cursor) {
+        long lastId;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            lastId = raw.startsWith(PREFIX) ? Long.parseLong(raw.substring(PREFIX.length())) : -1;
+        } catch (IllegalArgumentException ex) {
+            // Base64 mal formado o id no numérico (NumberFormatException)
+            lastId = -1;
+        }
+
+        if (lastId <= 0) {
+            throw new IllegalArgumentException("Cursor de paginación inválido: " + cursor);
+        }
+        return lastId;
+    }
+}
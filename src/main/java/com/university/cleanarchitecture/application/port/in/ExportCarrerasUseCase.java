@@ -0,0 +1,8 @@
+package com.university.cleanarchitecture.application.port.in;
+
+import com.university.cleanarchitecture.application.dto.response.CarreraResponse;
+import java.util.function.Consumer;
+
+public interface ExportCarrerasUseCase {
+    void exportAll(Consumer<CarreraResponse> sink);
+}
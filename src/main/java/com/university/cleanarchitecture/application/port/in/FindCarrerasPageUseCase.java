@@ -0,0 +1,10 @@
+package com.university.cleanarchitecture.application.port.in;
+
+import com.university.cleanarchitecture.application.dto.query.FindCarrerasPageQuery;
+import com.university.cleanarchitecture.application.dto.response.CarreraSummaryResponse;
+import com.university.cleanarchitecture.application.dto.response.PageResponse;
+import jakarta.validation.Valid;
+
+public interface FindCarrerasPageUseCase {
+    PageResponse<CarreraSummaryResponse> findPage(@Valid FindCarrerasPageQuery query);
+}
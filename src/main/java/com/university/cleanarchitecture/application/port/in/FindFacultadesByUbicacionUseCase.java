@@ -0,0 +1,9 @@
+package com.university.cleanarchitecture.application.port.in;
+
+import com.university.cleanarchitecture.application.dto.query.FindFacultadesByUbicacionQuery;
+import com.university.cleanarchitecture.application.dto.response.FacultadSummaryResponse;
+import java.util.List;
+
+public interface FindFacultadesByUbicacionUseCase {
+    List<FacultadSummaryResponse> findByUbicacion(FindFacultadesByUbicacionQuery query);
+}
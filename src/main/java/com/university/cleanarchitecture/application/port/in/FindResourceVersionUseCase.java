@@ -0,0 +1,13 @@
+package com.university.cleanarchitecture.application.port.in;
+
+import java.util.Optional;
+
+/**
+ * Versiones opacas de las representaciones de lectura: cambian siempre que cambie
+ * cualquier dato incluido en la respuesta correspondiente.
+ */
+public interface FindResourceVersionUseCase {
+    Optional<String> findFacultadVersion(Long facultadId);
+    Optional<String> findCarreraVersion(Long carreraId);
+    String findFacultadesVersion();
+}
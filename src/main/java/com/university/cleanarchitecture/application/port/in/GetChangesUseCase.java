@@ -0,0 +1,9 @@
+package com.university.cleanarchitecture.application.port.in;
+
+import com.university.cleanarchitecture.application.dto.query.GetChangesQuery;
+import com.university.cleanarchitecture.application.dto.response.ChangesResponse;
+import jakarta.validation.Valid;
+
+public interface GetChangesUseCase {
+    ChangesResponse getChanges(@Valid GetChangesQuery query);
+}
@@ -0,0 +1,8 @@
+package com.university.cleanarchitecture.application.port.in;
+
+import com.university.cleanarchitecture.application.dto.command.RegisterCarrerasBatchCommand;
+import com.university.cleanarchitecture.application.dto.response.CarreraBatchResponse;
+
+public interface RegisterCarrerasBatchUseCase {
+    CarreraBatchResponse registerBatch(RegisterCarrerasBatchCommand command);
+}
@@ -0,0 +1,10 @@
+package com.university.cleanarchitecture.application.port.in;
+
+import com.university.cleanarchitecture.application.dto.query.SearchCarrerasQuery;
+import com.university.cleanarchitecture.application.dto.response.CarreraSummaryResponse;
+import com.university.cleanarchitecture.application.dto.response.PageResponse;
+import jakarta.validation.Valid;
+
+public interface SearchCarrerasUseCase {
+    PageResponse<CarreraSummaryResponse> search(@Valid SearchCarrerasQuery query);
+}
@@ -5,10 +5,13 @@ import com.university.cleanarchitecture.domain.model.valueobjects.CarreraId;
 import com.university.cleanarchitecture.domain.model.valueobjects.FacultadId;
 import com.university.cleanarchitecture.domain.model.valueobjects.NombreAcademico;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 public interface CarreraRepositoryPort {
     Carrera save(Carrera carrera);
+    List<Carrera> insertAll(List<Carrera> carreras);
     Optional<Carrera> findById(CarreraId id);
     Optional<Carrera> findByNombre(NombreAcademico nombre);
     List<Carrera> findByFacultadId(FacultadId facultadId);
@@ -17,9 +20,14 @@ public interface CarreraRepositoryPort {
     List<Carrera> findByDuracionBetween(int minSemestres, int maxSemestres);
     List<Carrera> findAllActive();
     List<Carrera> findAll();
+    List<Carrera> search(String texto, boolean soloActivas, long offset, int limit);
+    long countSearch(String texto, boolean soloActivas);
+    List<Carrera> findByTituloOtorgadoContaining(String tituloOtorgado);
     boolean existsByNombre(NombreAcademico nombre);
+    Set<NombreAcademico> findExistingNombres(Set<NombreAcademico> nombres);
     boolean existsByNombreAndIdNot(NombreAcademico nombre, CarreraId id);
     int countActiveByFacultadId(FacultadId facultadId);
+    Map<FacultadId, Integer> countActiveByFacultadIds(Set<FacultadId> facultadIds);
     void deleteById(CarreraId id);
 }
 
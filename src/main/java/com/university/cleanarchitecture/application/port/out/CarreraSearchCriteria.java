@@ -0,0 +1,39 @@
+package com.university.cleanarchitecture.application.port.out;
+
+import com.university.cleanarchitecture.domain.model.valueobjects.FacultadId;
+
+/**
+ * Filtros combinables para los listados paginados de carreras.
+ * Los campos nulos no restringen la búsqueda.
+ */
+public class CarreraSearchCriteria {
+
+    private final FacultadId facultadId;
+    private final Integer minSemestres;
+    private final Integer maxSemestres;
+    private final boolean soloActivas;
+
+    public CarreraSearchCriteria(FacultadId facultadId, Integer minSemestres,
+                                 Integer maxSemestres, boolean soloActivas) {
+        this.facultadId = facultadId;
+        this.minSemestres = minSemestres;
+        this.maxSemestres = maxSemestres;
+        this.soloActivas = soloActivas;
+    }
+
+    public FacultadId getFacultadId() {
+        return facultadId;
+    }
+
+    public Integer getMinSemestres() {
+        return minSemestres;
+    }
+
+    public Integer getMaxSemestres() {
+        return maxSemestres;
+    }
+
+    public boolean isSoloActivas() {
+        return soloActivas;
+    }
+}
@@ -0,0 +1,24 @@
+package com.university.cleanarchitecture.application.port.out;
+
+import com.university.cleanarchitecture.application.dto.response.CarreraResponse;
+import com.university.cleanarchitecture.application.dto.response.CarreraSummaryResponse;
+import com.university.cleanarchitecture.domain.model.valueobjects.CarreraId;
+import com.university.cleanarchitecture.domain.model.valueobjects.FacultadId;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Lado de lectura de carreras: devuelve las respuestas ya desnormalizadas (con el nombre de la
+ * facultad), sin cargar el modelo de dominio.
+ */
+public interface CarreraViewPort {
+    Optional<CarreraResponse> findById(CarreraId id);
+    List<CarreraSummaryResponse> findByFacultadId(FacultadId facultadId, boolean soloActivas);
+    List<CarreraSummaryResponse> findByDuracionBetween(int minSemestres, int maxSemestres, boolean soloActivas);
+    List<CarreraSummaryResponse> findPageAfter(CarreraSearchCriteria criteria, CarreraId afterId, int limit);
+    List<CarreraSummaryResponse> findPageByOffset(CarreraSearchCriteria criteria, long offset, int limit);
+    long count(CarreraSearchCriteria criteria);
+    Stream<CarreraResponse> streamAll();
+}
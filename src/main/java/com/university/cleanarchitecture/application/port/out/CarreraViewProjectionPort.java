@@ -0,0 +1,12 @@
+package com.university.cleanarchitecture.application.port.out;
+
+import com.university.cleanarchitecture.domain.event.DomainEvent;
+import java.util.List;
+
+/**
+ * Actualiza carrera_view con los cambios de la transacción en curso; los servicios la llaman
+ * con los mismos eventos que guardan en el outbox.
+ */
+public interface CarreraViewProjectionPort {
+    void proyectar(List<DomainEvent> eventos);
+}
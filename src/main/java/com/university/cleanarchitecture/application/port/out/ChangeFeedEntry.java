@@ -0,0 +1,23 @@
+package com.university.cleanarchitecture.application.port.out;
+
+/**
+ * Agregado modificado junto con su posición en el feed de cambios.
+ */
+public final class ChangeFeedEntry<T> {
+
+    private final T valor;
+    private final ChangeFeedPosition posicion;
+
+    public ChangeFeedEntry(T valor, ChangeFeedPosition posicion) {
+        this.valor = valor;
+        this.posicion = posicion;
+    }
+
+    public T getValor() {
+        return valor;
+    }
+
+    public ChangeFeedPosition getPosicion() {
+        return posicion;
+    }
+}
@@ -0,0 +1,15 @@
+package com.university.cleanarchitecture.application.port.out;
+
+import com.university.cleanarchitecture.domain.model.Carrera;
+import com.university.cleanarchitecture.domain.model.Facultad;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Filas modificadas después de una posición y hasta un instante, en orden (updated_at, id).
+ */
+public interface ChangeFeedPort {
+    List<ChangeFeedEntry<Facultad>> findFacultadesChangedAfter(ChangeFeedPosition after, LocalDateTime hasta, int limit);
+    List<ChangeFeedEntry<Carrera>> findCarrerasChangedAfter(ChangeFeedPosition after, LocalDateTime hasta, int limit);
+}
@@ -0,0 +1,42 @@
+package com.university.cleanarchitecture.application.port.out;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Posición en el feed de cambios de una tabla: último (updated_at, id) entregado.
+ * El id desempata las filas modificadas en el mismo instante.
+ */
+public final class ChangeFeedPosition {
+
+    public static final ChangeFeedPosition INICIO =
+            new ChangeFeedPosition(LocalDateTime.of(1970, 1, 1, 0, 0), 0L);
+
+    private final LocalDateTime modificadoEn;
+    private final long id;
+
+    public ChangeFeedPosition(LocalDateTime modificadoEn, long id) {
+        this.modificadoEn = Objects.requireNonNull(modificadoEn, "La fecha de modificación no puede ser nula");
+        this.id = id;
+    }
+
+    public LocalDateTime getModificadoEn() {
+        return modificadoEn;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ChangeFeedPosition that)) return false;
+        return id == that.id && modificadoEn.equals(that.modificadoEn);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(modificadoEn, id);
+    }
+}
@@ -0,0 +1,12 @@
+package com.university.cleanarchitecture.application.port.out;
+
+import com.university.cleanarchitecture.domain.event.DomainEvent;
+import java.util.List;
+
+/**
+ * Guarda los eventos de dominio en la misma transacción que el cambio que los produjo; se
+ * publican después de forma asíncrona.
+ */
+public interface DomainEventOutboxPort {
+    void append(List<DomainEvent> eventos);
+}
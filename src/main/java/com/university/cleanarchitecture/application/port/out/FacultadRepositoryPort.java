@@ -4,14 +4,19 @@ import com.university.cleanarchitecture.domain.model.Facultad;
 import com.university.cleanarchitecture.domain.model.valueobjects.FacultadId;
 import com.university.cleanarchitecture.domain.model.valueobjects.NombreAcademico;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 public interface FacultadRepositoryPort {
     Facultad save(Facultad facultad);
     Optional<Facultad> findById(FacultadId id);
+    Map<FacultadId, Facultad> findAllByIds(Set<FacultadId> ids);
     Optional<Facultad> findByNombre(NombreAcademico nombre);
+    Map<FacultadId, String> findNombresByIds(Set<FacultadId> ids);
     List<Facultad> findAllActive();
     List<Facultad> findAll();
+    List<Facultad> findByUbicacion(String ubicacion);
     boolean existsByNombre(NombreAcademico nombre);
     boolean existsByNombreAndIdNot(NombreAcademico nombre, FacultadId id);
     int countCarrerasByFacultadId(FacultadId facultadId);
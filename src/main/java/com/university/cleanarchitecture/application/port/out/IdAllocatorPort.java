@@ -0,0 +1,9 @@
+package com.university.cleanarchitecture.application.port.out;
+
+import com.university.cleanarchitecture.domain.model.valueobjects.CarreraId;
+import com.university.cleanarchitecture.domain.model.valueobjects.FacultadId;
+
+public interface IdAllocatorPort {
+    CarreraId nextCarreraId();
+    FacultadId nextFacultadId();
+}
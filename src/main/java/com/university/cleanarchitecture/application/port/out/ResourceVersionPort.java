@@ -0,0 +1,12 @@
+package com.university.cleanarchitecture.application.port.out;
+
+import com.university.cleanarchitecture.domain.model.valueobjects.CarreraId;
+import com.university.cleanarchitecture.domain.model.valueobjects.FacultadId;
+
+import java.util.Optional;
+
+public interface ResourceVersionPort {
+    Optional<String> findFacultadVersion(FacultadId id);
+    Optional<String> findCarreraVersion(CarreraId id);
+    String findFacultadesVersion();
+}
@@ -2,51 +2,89 @@ package com.university.cleanarchitecture.application.service;
 
 import com.university.cleanarchitecture.application.port.in.*;
 import com.university.cleanarchitecture.application.port.out.CarreraRepositoryPort;
+import com.university.cleanarchitecture.application.port.out.CarreraSearchCriteria;
+import com.university.cleanarchitecture.application.port.out.CarreraViewPort;
+import com.university.cleanarchitecture.application.port.out.CarreraViewProjectionPort;
+import com.university.cleanarchitecture.application.port.out.DomainEventOutboxPort;
 import com.university.cleanarchitecture.application.port.out.FacultadRepositoryPort;
+import com.university.cleanarchitecture.application.port.out.IdAllocatorPort;
 import com.university.cleanarchitecture.application.dto.command.RegisterCarreraCommand;
+import com.university.cleanarchitecture.application.dto.command.RegisterCarrerasBatchCommand;
 import com.university.cleanarchitecture.application.dto.command.UpdateCarreraCommand;
 import com.university.cleanarchitecture.application.dto.query.*;
+import com.university.cleanarchitecture.application.dto.response.CarreraBatchItemResponse;
+import com.university.cleanarchitecture.application.dto.response.CarreraBatchResponse;
 import com.university.cleanarchitecture.application.dto.response.CarreraResponse;
 import com.university.cleanarchitecture.application.dto.response.CarreraSummaryResponse;
+import com.university.cleanarchitecture.application.dto.response.PageResponse;
 import com.university.cleanarchitecture.application.mapper.CarreraMapper;
+import com.university.cleanarchitecture.application.mapper.PageCursorCodec;
+import com.university.cleanarchitecture.domain.event.DomainEvent;
 import com.university.cleanarchitecture.domain.model.Carrera;
 import com.university.cleanarchitecture.domain.model.Facultad;
 import com.university.cleanarchitecture.domain.model.valueobjects.*;
 import com.university.cleanarchitecture.domain.exception.CarreraNotFoundException;
 import com.university.cleanarchitecture.domain.exception.FacultadNotFoundException;
+import com.university.cleanarchitecture.domain.exception.InvalidDurationException;
 import com.university.cleanarchitecture.domain.service.CarreraDomainService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.validation.annotation.Validated;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+// @Validated: las consultas marcadas con @Valid en los puertos de entrada se validan al llamarlos
 @Service
 @Transactional
+@Validated
 public class CarreraApplicationService implements
         RegisterCarreraUseCase,
+        RegisterCarrerasBatchUseCase,
         UpdateCarreraUseCase,
         FindCarreraByIdUseCase,
         FindCarrerasByFacultadUseCase,
         FindCarrerasByDuracionUseCase,
+        FindCarrerasPageUseCase,
+        SearchCarrerasUseCase,
+        ExportCarrerasUseCase,
         ActivateCarreraUseCase,
         DeactivateCarreraUseCase {
 
     private final CarreraRepositoryPort carreraRepository;
+    private final CarreraViewPort carreraView;
     private final FacultadRepositoryPort facultadRepository;
     private final CarreraDomainService carreraDomainService;
     private final CarreraMapper carreraMapper;
-    private static final AtomicLong ID_GENERATOR = new AtomicLong(1);
+    private final IdAllocatorPort idAllocator;
+    private final FanOutExecutor fanOut;
+    private final CarreraViewProjectionPort carreraViewProjection;
+    private final DomainEventOutboxPort outbox;
 
     public CarreraApplicationService(CarreraRepositoryPort carreraRepository,
+                                     CarreraViewPort carreraView,
                                      FacultadRepositoryPort facultadRepository,
                                      CarreraDomainService carreraDomainService,
-                                     CarreraMapper carreraMapper) {
+                                     CarreraMapper carreraMapper,
+                                     IdAllocatorPort idAllocator,
+                                     FanOutExecutor fanOut,
+                                     CarreraViewProjectionPort carreraViewProjection,
+                                     DomainEventOutboxPort outbox) {
         this.carreraRepository = carreraRepository;
+        this.carreraView = carreraView;
         this.facultadRepository = facultadRepository;
         this.carreraDomainService = carreraDomainService;
         this.carreraMapper = carreraMapper;
+        this.idAllocator = idAllocator;
+        this.fanOut = fanOut;
+        this.carreraViewProjection = carreraViewProjection;
+        this.outbox = outbox;
     }
 
     @Override
@@ -56,7 +94,7 @@ public class CarreraApplicationService implements
 
         carreraDomainService.validarCreacionCarrera(facultadId, nombre);
 
-        CarreraId carreraId = CarreraId.of(ID_GENERATOR.getAndIncrement());
+        CarreraId carreraId = idAllocator.nextCarreraId();
 
         Carrera carrera = Carrera.crear(
                 carreraId,
@@ -68,6 +106,7 @@ public class CarreraApplicationService implements
         );
 
         Carrera savedCarrera = carreraRepository.save(carrera);
+        registrarEventos(carrera.extraerEventos());
 
         Facultad facultad = facultadRepository.findById(facultadId)
                 .orElseThrow(() -> new FacultadNotFoundException(facultadId.getValue()));
@@ -75,6 +114,89 @@ public class CarreraApplicationService implements
         return carreraMapper.toResponse(savedCarrera, facultad.getNombre().getValue());
     }
 
+    /**
+     * Registra un lote de carreras en una sola transacción.
+     * Las validaciones de nombre y facultad se resuelven con una consulta cada una y las
+     * inserciones se agrupan en lotes JDBC. Los elementos que no superan las reglas de
+     * negocio se informan individualmente sin impedir el registro del resto.
+     */
+    @Override
+    public CarreraBatchResponse registerBatch(RegisterCarrerasBatchCommand command) {
+        List<RegisterCarreraCommand> items = command.getCarreras();
+        CarreraBatchItemResponse[] resultados = new CarreraBatchItemResponse[items.size()];
+
+        // Construir value objects y detectar errores de formato por elemento
+        NombreAcademico[] nombres = new NombreAcademico[items.size()];
+        Set<NombreAcademico> nombresSolicitados = new HashSet<>();
+        Set<FacultadId> facultadIds = new HashSet<>();
+        for (int i = 0; i < items.size(); i++) {
+            try {
+                nombres[i] = NombreAcademico.of(items.get(i).getNombre());
+                nombresSolicitados.add(nombres[i]);
+                facultadIds.add(FacultadId.of(items.get(i).getFacultadId()));
+            } catch (IllegalArgumentException ex) {
+                resultados[i] = CarreraBatchItemResponse.error(i, "INVALID_ARGUMENT", ex.getMessage());
+            }
+        }
+
+        // Nombres ya registrados; se añaden los aceptados para detectar duplicados dentro del lote
+        Set<NombreAcademico> nombresEnUso = new HashSet<>(carreraRepository.findExistingNombres(nombresSolicitados));
+        Map<FacultadId, Facultad> facultades = facultadRepository.findAllByIds(facultadIds);
+
+        List<Carrera> nuevas = new ArrayList<>();
+        List<Integer> indicesNuevas = new ArrayList<>();
+
+        for (int i = 0; i < items.size(); i++) {
+            if (resultados[i] != null) {
+                continue;
+            }
+            RegisterCarreraCommand item = items.get(i);
+            FacultadId facultadId = FacultadId.of(item.getFacultadId());
+
+            try {
+                carreraDomainService.validarCreacionCarrera(facultadId, nombres[i], facultades, nombresEnUso);
+
+                nuevas.add(Carrera.crear(
+                        idAllocator.nextCarreraId(),
+                        facultadId,
+                        nombres[i],
+                        item.getDescripcion(),
+                        Duracion.of(item.getDuracionSemestres()),
+                        item.getTituloOtorgado()
+                ));
+                nombresEnUso.add(nombres[i]);
+                indicesNuevas.add(i);
+            } catch (FacultadNotFoundException ex) {
+                resultados[i] = CarreraBatchItemResponse.error(i, "FACULTAD_NOT_FOUND", ex.getMessage());
+            } catch (InvalidDurationException ex) {
+                resultados[i] = CarreraBatchItemResponse.error(i, "INVALID_DURATION", ex.getMessage());
+            } catch (IllegalStateException ex) {
+                resultados[i] = CarreraBatchItemResponse.error(i, "INVALID_STATE", ex.getMessage());
+            } catch (IllegalArgumentException ex) {
+                resultados[i] = CarreraBatchItemResponse.error(i, "INVALID_ARGUMENT", ex.getMessage());
+            }
+        }
+
+        List<Carrera> guardadas = carreraRepository.insertAll(nuevas);
+        registrarEventos(nuevas.stream()
+                .flatMap(carrera -> carrera.extraerEventos().stream())
+                .collect(Collectors.toList()));
+        for (int j = 0; j < guardadas.size(); j++) {
+            Carrera carrera = guardadas.get(j);
+            String facultadNombre = facultades.get(carrera.getFacultadId()).getNombre().getValue();
+            int indice = indicesNuevas.get(j);
+            resultados[indice] = CarreraBatchItemResponse.exito(indice,
+                    carreraMapper.toResponse(carrera, facultadNombre));
+        }
+
+        CarreraBatchResponse response = new CarreraBatchResponse();
+        response.setTotal(items.size());
+        response.setRegistradas(guardadas.size());
+        response.setFallidas(items.size() - guardadas.size());
+        response.setResultados(List.of(resultados));
+        return response;
+    }
+
     @Override
     public CarreraResponse update(UpdateCarreraCommand command) {
         CarreraId carreraId = CarreraId.of(command.getCarreraId());
@@ -82,6 +204,8 @@ public class CarreraApplicationService implements
         Carrera carrera = carreraRepository.findById(carreraId)
                 .orElseThrow(() -> new CarreraNotFoundException(command.getCarreraId()));
 
+        carrera.verificarVersion(command.getVersion());
+
         carrera.actualizarInformacionAcademica(
                 NombreAcademico.of(command.getNombre()),
                 command.getDescripcion(),
@@ -90,6 +214,7 @@ public class CarreraApplicationService implements
         );
 
         Carrera updatedCarrera = carreraRepository.save(carrera);
+        registrarEventos(carrera.extraerEventos());
 
         Facultad facultad = facultadRepository.findById(carrera.getFacultadId())
                 .orElseThrow(() -> new FacultadNotFoundException(carrera.getFacultadId().getValue()));
@@ -102,13 +227,8 @@ public class CarreraApplicationService implements
     public CarreraResponse findById(FindCarreraByIdQuery query) {
         CarreraId carreraId = CarreraId.of(query.getCarreraId());
 
-        Carrera carrera = carreraRepository.findById(carreraId)
+        return carreraView.findById(carreraId)
                 .orElseThrow(() -> new CarreraNotFoundException(query.getCarreraId()));
-
-        Facultad facultad = facultadRepository.findById(carrera.getFacultadId())
-                .orElseThrow(() -> new FacultadNotFoundException(carrera.getFacultadId().getValue()));
-
-        return carreraMapper.toResponse(carrera, facultad.getNombre().getValue());
     }
 
     @Override
@@ -116,42 +236,122 @@ public class CarreraApplicationService implements
     public List<CarreraSummaryResponse> findByFacultad(FindCarrerasByFacultadQuery query) {
         FacultadId facultadId = FacultadId.of(query.getFacultadId());
 
-        List<Carrera> carreras = query.isSoloActivas()
-                ? carreraRepository.findActiveByFacultadId(facultadId)
-                : carreraRepository.findByFacultadId(facultadId);
-
-        Facultad facultad = facultadRepository.findById(facultadId)
-                .orElseThrow(() -> new FacultadNotFoundException(facultadId.getValue()));
+        List<CarreraSummaryResponse> carreras = carreraView.findByFacultadId(facultadId, query.isSoloActivas());
 
-        return carreras.stream()
-                .map(carrera -> carreraMapper.toSummaryResponse(carrera, facultad.getNombre().getValue()))
-                .collect(Collectors.toList());
+        // Con resultados la facultad existe; sin ellos hay que distinguir "sin carreras" de 404
+        if (carreras.isEmpty() && facultadRepository.findById(facultadId).isEmpty()) {
+            throw new FacultadNotFoundException(facultadId.getValue());
+        }
+        return carreras;
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<CarreraSummaryResponse> findByDuracion(FindCarrerasByDuracionQuery query) {
-        List<Carrera> carreras;
-
         if (query.getDuracionSemestres() != null) {
-            carreras = carreraRepository.findByDuracionSemestres(query.getDuracionSemestres());
-        } else if (query.getDuracionMinima() != null || query.getDuracionMaxima() != null) {
+            return carreraView.findByDuracionBetween(
+                    query.getDuracionSemestres(), query.getDuracionSemestres(), query.isSoloActivas());
+        }
+        if (query.getDuracionMinima() != null || query.getDuracionMaxima() != null) {
             int min = query.getDuracionMinima() != null ? query.getDuracionMinima() : 6;
             int max = query.getDuracionMaxima() != null ? query.getDuracionMaxima() : 14;
-            carreras = carreraRepository.findByDuracionBetween(min, max);
+            return carreraView.findByDuracionBetween(min, max, query.isSoloActivas());
+        }
+        // Sin filtro de duración solo se listan las activas
+        return carreraView.findByDuracionBetween(6, 14, true);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<CarreraSummaryResponse> findPage(FindCarrerasPageQuery query) {
+        if (query.getCursor() != null && query.getPage() != null) {
+            throw new IllegalArgumentException("No se puede combinar paginación por cursor y por número de página");
+        }
+        // JPA solo admite desplazamientos de tipo int
+        if (query.getPage() != null && (long) query.getPage() * query.getSize() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("La página solicitada está fuera de rango");
+        }
+
+        CarreraSearchCriteria criteria = toSearchCriteria(query);
+        int size = query.getSize();
+
+        PageResponse<CarreraSummaryResponse> page = new PageResponse<>();
+        page.setPageSize(size);
+
+        // Se pide un elemento extra para saber si existe una página siguiente
+        List<CarreraSummaryResponse> carreras;
+        if (query.getPage() != null) {
+            long offset = (long) query.getPage() * size;
+            // La página y el total son consultas independientes
+            carreras = fanOut.combinar(
+                    () -> carreraView.findPageByOffset(criteria, offset, size + 1),
+                    () -> carreraView.count(criteria),
+                    (contenido, total) -> {
+                        int totalPages = (int) ((total + size - 1) / size);
+                        page.setPageNumber(query.getPage());
+                        page.setTotalElements(total);
+                        page.setTotalPages(totalPages);
+                        page.setFirst(query.getPage() == 0);
+                        page.setLast(query.getPage() >= totalPages - 1);
+                        page.setHasPrevious(query.getPage() > 0);
+                        return contenido;
+                    });
         } else {
-            carreras = carreraRepository.findAllActive();
+            CarreraId afterId = query.getCursor() != null
+                    ? CarreraId.of(PageCursorCodec.decode(query.getCursor()))
+                    : null;
+            carreras = carreraView.findPageAfter(criteria, afterId, size + 1);
         }
 
-        if (query.isSoloActivas()) {
-            carreras = carreras.stream()
-                    .filter(Carrera::isActivo)
-                    .collect(Collectors.toList());
+        boolean hasNext = carreras.size() > size;
+        if (hasNext) {
+            carreras = carreras.subList(0, size);
         }
 
-        return carreras.stream()
-                .map(this::enrichCarreraSummary)
-                .collect(Collectors.toList());
+        page.setHasNext(hasNext);
+        if (hasNext && query.getPage() == null) {
+            page.setNextCursor(PageCursorCodec.encode(carreras.get(carreras.size() - 1).getId()));
+        }
+        page.setContent(carreras);
+        return page;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<CarreraSummaryResponse> search(SearchCarrerasQuery query) {
+        String texto = query.getTexto().strip();
+        int size = query.getSize();
+        long offset = (long) query.getPage() * size;
+
+        PageResponse<CarreraSummaryResponse> page = new PageResponse<>();
+        page.setPageSize(size);
+        page.setPageNumber(query.getPage());
+
+        // Resultados ordenados por relevancia y total, consultas independientes
+        List<Carrera> carreras = fanOut.combinar(
+                () -> carreraRepository.search(texto, query.isSoloActivas(), offset, size),
+                () -> carreraRepository.countSearch(texto, query.isSoloActivas()),
+                (contenido, total) -> {
+                    int totalPages = (int) ((total + size - 1) / size);
+                    page.setTotalElements(total);
+                    page.setTotalPages(totalPages);
+                    page.setFirst(query.getPage() == 0);
+                    page.setLast(query.getPage() >= totalPages - 1);
+                    page.setHasPrevious(query.getPage() > 0);
+                    page.setHasNext(query.getPage() < totalPages - 1);
+                    return contenido;
+                });
+
+        page.setContent(enrichCarreraSummaries(carreras));
+        return page;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAll(Consumer<CarreraResponse> sink) {
+        try (Stream<CarreraResponse> carreras = carreraView.streamAll()) {
+            carreras.forEach(sink);
+        }
     }
 
     @Override
@@ -161,6 +361,7 @@ public class CarreraApplicationService implements
 
         carrera.activar();
         carreraRepository.save(carrera);
+        registrarEventos(carrera.extraerEventos());
     }
 
     @Override
@@ -170,12 +371,44 @@ public class CarreraApplicationService implements
 
         carrera.desactivar();
         carreraRepository.save(carrera);
+        registrarEventos(carrera.extraerEventos());
     }
 
-    private CarreraSummaryResponse enrichCarreraSummary(Carrera carrera) {
-        Facultad facultad = facultadRepository.findById(carrera.getFacultadId())
-                .orElseThrow(() -> new FacultadNotFoundException(carrera.getFacultadId().getValue()));
+    private CarreraSearchCriteria toSearchCriteria(FindCarrerasPageQuery query) {
+        FacultadId facultadId = query.getFacultadId() != null ? FacultadId.of(query.getFacultadId()) : null;
+
+        if (query.getDuracionSemestres() != null) {
+            return new CarreraSearchCriteria(facultadId, query.getDuracionSemestres(),
+                    query.getDuracionSemestres(), query.isSoloActivas());
+        }
+        return new CarreraSearchCriteria(facultadId, query.getDuracionMinima(),
+                query.getDuracionMaxima(), query.isSoloActivas());
+    }
+
+    /**
+     * Resuelve los nombres de facultad de todo el listado con una sola consulta
+     */
+    private List<CarreraSummaryResponse> enrichCarreraSummaries(List<Carrera> carreras) {
+        Set<FacultadId> facultadIds = carreras.stream()
+                .map(Carrera::getFacultadId)
+                .collect(Collectors.toSet());
+
+        Map<FacultadId, String> nombresFacultad = facultadRepository.findNombresByIds(facultadIds);
+
+        return carreras.stream()
+                .map(carrera -> {
+                    String facultadNombre = nombresFacultad.get(carrera.getFacultadId());
+                    if (facultadNombre == null) {
+                        throw new FacultadNotFoundException(carrera.getFacultadId().getValue());
+                    }
+                    return carreraMapper.toSummaryResponse(carrera, facultadNombre);
+                })
+                .collect(Collectors.toList());
+    }
 
-        return carreraMapper.toSummaryResponse(carrera, facultad.getNombre().getValue());
+    // carrera_view se actualiza en la misma transacción; el outbox publica después del commit
+    private void registrarEventos(List<DomainEvent> eventos) {
+        carreraViewProjection.proyectar(eventos);
+        outbox.append(eventos);
     }
 }
@@ -0,0 +1,134 @@
+package com.university.cleanarchitecture.application.service;
+
+import com.university.cleanarchitecture.application.dto.query.GetChangesQuery;
+import com.university.cleanarchitecture.application.dto.response.CarreraSummaryResponse;
+import com.university.cleanarchitecture.application.dto.response.ChangesResponse;
+import com.university.cleanarchitecture.application.dto.response.FacultadSummaryResponse;
+import com.university.cleanarchitecture.application.mapper.CarreraMapper;
+import com.university.cleanarchitecture.application.mapper.ChangeCursorCodec;
+import com.university.cleanarchitecture.application.mapper.FacultadMapper;
+import com.university.cleanarchitecture.application.port.in.GetChangesUseCase;
+import com.university.cleanarchitecture.application.port.out.CarreraRepositoryPort;
+import com.university.cleanarchitecture.application.port.out.ChangeFeedEntry;
+import com.university.cleanarchitecture.application.port.out.ChangeFeedPort;
+import com.university.cleanarchitecture.application.port.out.ChangeFeedPosition;
+import com.university.cleanarchitecture.application.port.out.FacultadRepositoryPort;
+import com.university.cleanarchitecture.domain.model.Carrera;
+import com.university.cleanarchitecture.domain.model.Facultad;
+import com.university.cleanarchitecture.domain.model.valueobjects.FacultadId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Feed de cambios por keyset sobre (updated_at, id).
+ *
+ * updated_at se asigna al escribir, no al confirmar: una transacción todavía abierta puede
+ * confirmar después filas con un updated_at anterior al último entregado. Por eso solo se
+ * entregan filas modificadas hace más de settle-delay, que debe superar la duración de la
+ * transacción de escritura más larga.
+ *
+ * Es best-effort: las transacciones más largas que settle-delay, los relojes desfasados entre
+ * instancias y las eliminaciones no se reflejan. El registro completo son los eventos del outbox.
+ */
+@Service
+@Transactional(readOnly = true)
+@Validated
+public class ChangeFeedApplicationService implements GetChangesUseCase {
+
+    private final ChangeFeedPort changeFeedPort;
+    private final FacultadRepositoryPort facultadRepository;
+    private final CarreraRepositoryPort carreraRepository;
+    private final FacultadMapper facultadMapper;
+    private final CarreraMapper carreraMapper;
+    private final FanOutExecutor fanOut;
+    private final Duration settleDelay;
+
+    public ChangeFeedApplicationService(ChangeFeedPort changeFeedPort,
+                                        FacultadRepositoryPort facultadRepository,
+                                        CarreraRepositoryPort carreraRepository,
+                                        FacultadMapper facultadMapper,
+                                        CarreraMapper carreraMapper,
+                                        FanOutExecutor fanOut,
+                                        @Value("${universidad.changes.settle-delay:2s}") Duration settleDelay) {
+        this.changeFeedPort = changeFeedPort;
+        this.facultadRepository = facultadRepository;
+        this.carreraRepository = carreraRepository;
+        this.facultadMapper = facultadMapper;
+        this.carreraMapper = carreraMapper;
+        this.fanOut = fanOut;
+        this.settleDelay = settleDelay;
+    }
+
+    @Override
+    public ChangesResponse getChanges(GetChangesQuery query) {
+        int limit = query.getLimit();
+
+        ChangeFeedPosition[] desde = query.getSince() != null
+                ? ChangeCursorCodec.decode(query.getSince())
+                : new ChangeFeedPosition[]{ChangeFeedPosition.INICIO, ChangeFeedPosition.INICIO};
+        LocalDateTime hasta = LocalDateTime.now().minus(settleDelay);
+
+        // Se pide un elemento extra por tipo para saber si quedan cambios pendientes
+        return fanOut.combinar(
+                () -> changeFeedPort.findFacultadesChangedAfter(desde[0], hasta, limit + 1),
+                () -> changeFeedPort.findCarrerasChangedAfter(desde[1], hasta, limit + 1),
+                (facultades, carreras) -> {
+                    boolean hasMore = facultades.size() > limit || carreras.size() > limit;
+                    facultades = facultades.subList(0, Math.min(limit, facultades.size()));
+                    carreras = carreras.subList(0, Math.min(limit, carreras.size()));
+
+                    String cursor = ChangeCursorCodec.encode(
+                            ultimaPosicion(facultades, desde[0]),
+                            ultimaPosicion(carreras, desde[1]));
+                    return new ChangesResponse(toFacultadSummaries(facultades),
+                            toCarreraSummaries(carreras), cursor, hasMore);
+                });
+    }
+
+    private ChangeFeedPosition ultimaPosicion(List<? extends ChangeFeedEntry<?>> entradas,
+                                              ChangeFeedPosition anterior) {
+        return entradas.isEmpty() ? anterior : entradas.get(entradas.size() - 1).getPosicion();
+    }
+
+    private List<FacultadSummaryResponse> toFacultadSummaries(List<ChangeFeedEntry<Facultad>> entradas) {
+        if (entradas.isEmpty()) {
+            return List.of();
+        }
+        Set<FacultadId> facultadIds = entradas.stream()
+                .map(entrada -> entrada.getValor().getId())
+                .collect(Collectors.toSet());
+
+        Map<FacultadId, Integer> carrerasActivas = carreraRepository.countActiveByFacultadIds(facultadIds);
+
+        return entradas.stream()
+                .map(ChangeFeedEntry::getValor)
+                .map(facultad -> facultadMapper.toSummaryResponse(
+                        facultad, carrerasActivas.getOrDefault(facultad.getId(), 0)))
+                .collect(Collectors.toList());
+    }
+
+    private List<CarreraSummaryResponse> toCarreraSummaries(List<ChangeFeedEntry<Carrera>> entradas) {
+        if (entradas.isEmpty()) {
+            return List.of();
+        }
+        Set<FacultadId> facultadIds = entradas.stream()
+                .map(entrada -> entrada.getValor().getFacultadId())
+                .collect(Collectors.toSet());
+
+        Map<FacultadId, String> nombresFacultad = facultadRepository.findNombresByIds(facultadIds);
+
+        return entradas.stream()
+                .map(ChangeFeedEntry::getValor)
+                .map(carrera -> carreraMapper.toSummaryResponse(carrera, nombresFacultad.get(carrera.getFacultadId())))
+                .collect(Collectors.toList());
+    }
+}
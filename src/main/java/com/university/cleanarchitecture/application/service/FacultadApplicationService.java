@@ -2,7 +2,10 @@ package com.university.cleanarchitecture.application.service;
 
 import com.university.cleanarchitecture.application.port.in.*;
 import com.university.cleanarchitecture.application.port.out.CarreraRepositoryPort;
+import com.university.cleanarchitecture.application.port.out.CarreraViewProjectionPort;
+import com.university.cleanarchitecture.application.port.out.DomainEventOutboxPort;
 import com.university.cleanarchitecture.application.port.out.FacultadRepositoryPort;
+import com.university.cleanarchitecture.application.port.out.IdAllocatorPort;
 import com.university.cleanarchitecture.application.dto.command.CambiarDecanoCommand;
 import com.university.cleanarchitecture.application.dto.command.RegisterFacultadCommand;
 import com.university.cleanarchitecture.application.dto.command.UpdateFacultadCommand;
@@ -10,6 +13,7 @@ import com.university.cleanarchitecture.application.dto.query.*;
 import com.university.cleanarchitecture.application.dto.response.FacultadResponse;
 import com.university.cleanarchitecture.application.dto.response.FacultadSummaryResponse;
 import com.university.cleanarchitecture.application.mapper.FacultadMapper;
+import com.university.cleanarchitecture.domain.event.DomainEvent;
 import com.university.cleanarchitecture.domain.model.Facultad;
 import com.university.cleanarchitecture.domain.model.valueobjects.FacultadId;
 import com.university.cleanarchitecture.domain.model.valueobjects.NombreAcademico;
@@ -18,7 +22,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,20 +35,32 @@ public class FacultadApplicationService implements
         FindFacultadByIdUseCase,
         FindFacultadByNombreUseCase,
         FindAllFacultadesUseCase,
+        FindFacultadesByUbicacionUseCase,
         ActivateFacultadUseCase,
         DeactivateFacultadUseCase {
 
     private final FacultadRepositoryPort facultadRepository;
     private final CarreraRepositoryPort carreraRepository;
     private final FacultadMapper facultadMapper;
-    private static final AtomicLong ID_GENERATOR = new AtomicLong(1);
+    private final IdAllocatorPort idAllocator;
+    private final FanOutExecutor fanOut;
+    private final CarreraViewProjectionPort carreraViewProjection;
+    private final DomainEventOutboxPort outbox;
 
     public FacultadApplicationService(FacultadRepositoryPort facultadRepository,
                                       CarreraRepositoryPort carreraRepository,
-                                      FacultadMapper facultadMapper) {
+                                      FacultadMapper facultadMapper,
+                                      IdAllocatorPort idAllocator,
+                                      FanOutExecutor fanOut,
+                                      CarreraViewProjectionPort carreraViewProjection,
+                                      DomainEventOutboxPort outbox) {
         this.facultadRepository = facultadRepository;
         this.carreraRepository = carreraRepository;
         this.facultadMapper = facultadMapper;
+        this.idAllocator = idAllocator;
+        this.fanOut = fanOut;
+        this.carreraViewProjection = carreraViewProjection;
+        this.outbox = outbox;
     }
 
     @Override
@@ -54,7 +71,7 @@ public class FacultadApplicationService implements
             throw new RuntimeException("Ya existe una facultad con el nombre: " + command.getNombre());
         }
 
-        FacultadId facultadId = FacultadId.of(ID_GENERATOR.getAndIncrement());
+        FacultadId facultadId = idAllocator.nextFacultadId();
 
         Facultad facultad = Facultad.crear(
                 facultadId,
@@ -65,6 +82,7 @@ public class FacultadApplicationService implements
         );
 
         Facultad savedFacultad = facultadRepository.save(facultad);
+        registrarEventos(facultad.extraerEventos());
 
         int cantidadCarreras = carreraRepository.countActiveByFacultadId(facultadId);
 
@@ -78,6 +96,8 @@ public class FacultadApplicationService implements
         Facultad facultad = facultadRepository.findById(facultadId)
                 .orElseThrow(() -> new FacultadNotFoundException(command.getFacultadId()));
 
+        facultad.verificarVersion(command.getVersion());
+
         NombreAcademico nuevoNombre = NombreAcademico.of(command.getNombre());
 
         if (facultadRepository.existsByNombreAndIdNot(nuevoNombre, facultadId)) {
@@ -91,6 +111,7 @@ public class FacultadApplicationService implements
         );
 
         Facultad updatedFacultad = facultadRepository.save(facultad);
+        registrarEventos(facultad.extraerEventos());
 
         int cantidadCarreras = carreraRepository.countActiveByFacultadId(facultadId);
 
@@ -104,9 +125,12 @@ public class FacultadApplicationService implements
         Facultad facultad = facultadRepository.findById(facultadId)
                 .orElseThrow(() -> new FacultadNotFoundException(command.getFacultadId()));
 
+        facultad.verificarVersion(command.getVersion());
+
         facultad.cambiarDecano(command.getNuevoDecano());
 
         Facultad updatedFacultad = facultadRepository.save(facultad);
+        registrarEventos(facultad.extraerEventos());
 
         int cantidadCarreras = carreraRepository.countActiveByFacultadId(facultadId);
 
@@ -118,12 +142,13 @@ public class FacultadApplicationService implements
     public FacultadResponse findById(FindFacultadByIdQuery query) {
         FacultadId facultadId = FacultadId.of(query.getFacultadId());
 
-        Facultad facultad = facultadRepository.findById(facultadId)
-                .orElseThrow(() -> new FacultadNotFoundException(query.getFacultadId()));
-
-        int cantidadCarreras = carreraRepository.countActiveByFacultadId(facultadId);
-
-        return facultadMapper.toResponse(facultad, cantidadCarreras);
+        // La facultad y el conteo de carreras son independientes
+        return fanOut.combinar(
+                () -> facultadRepository.findById(facultadId)
+                        .orElseThrow(() -> new FacultadNotFoundException(query.getFacultadId())),
+                () -> carreraRepository.countActiveByFacultadId(facultadId),
+                facultadMapper::toResponse
+        );
     }
 
     @Override
@@ -146,9 +171,21 @@ public class FacultadApplicationService implements
                 ? facultadRepository.findAll()
                 : facultadRepository.findAllActive();
 
-        return facultades.stream()
-                .map(this::enrichFacultadSummary)
+        return toSummaryResponses(facultades);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<FacultadSummaryResponse> findByUbicacion(FindFacultadesByUbicacionQuery query) {
+        if (query.getUbicacion() == null || query.getUbicacion().isBlank()) {
+            throw new IllegalArgumentException("La ubicación es obligatoria");
+        }
+
+        List<Facultad> facultades = facultadRepository.findByUbicacion(query.getUbicacion()).stream()
+                .filter(facultad -> query.isIncluirInactivas() || facultad.isActivo())
                 .collect(Collectors.toList());
+
+        return toSummaryResponses(facultades);
     }
 
     @Override
@@ -158,6 +195,7 @@ public class FacultadApplicationService implements
 
         facultad.activar();
         facultadRepository.save(facultad);
+        registrarEventos(facultad.extraerEventos());
     }
 
     @Override
@@ -175,10 +213,28 @@ public class FacultadApplicationService implements
 
         facultad.desactivar();
         facultadRepository.save(facultad);
+        registrarEventos(facultad.extraerEventos());
     }
 
-    private FacultadSummaryResponse enrichFacultadSummary(Facultad facultad) {
-        int cantidadCarreras = carreraRepository.countActiveByFacultadId(facultad.getId());
-        return facultadMapper.toSummaryResponse(facultad, cantidadCarreras);
+    /**
+     * Resuelve los conteos de carreras activas de todo el listado con una sola consulta
+     */
+    private List<FacultadSummaryResponse> toSummaryResponses(List<Facultad> facultades) {
+        Set<FacultadId> facultadIds = facultades.stream()
+                .map(Facultad::getId)
+                .collect(Collectors.toSet());
+
+        Map<FacultadId, Integer> carrerasActivas = carreraRepository.countActiveByFacultadIds(facultadIds);
+
+        return facultades.stream()
+                .map(facultad -> facultadMapper.toSummaryResponse(
+                        facultad, carrerasActivas.getOrDefault(facultad.getId(), 0)))
+                .collect(Collectors.toList());
+    }
+
+    // carrera_view se actualiza en la misma transacción; el outbox publica después del commit
+    private void registrarEventos(List<DomainEvent> eventos) {
+        carreraViewProjection.proyectar(eventos);
+        outbox.append(eventos);
     }
 }
@@ -0,0 +1,125 @@
+package com.university.cleanarchitecture.application.service;
+
+import com.university.cleanarchitecture.application.exception.DeadlineExceededException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * Ejecuta en paralelo dos llamadas independientes a los puertos de salida de un caso de uso.
+ *
+ * La primera llamada se ejecuta en el hilo actual, conservando su transacción, y la segunda en
+ * un hilo virtual con su propia conexión. Si la primera falla se cancela la segunda, y si entre
+ * las dos superan el deadline se cancela la segunda y se lanza DeadlineExceededException.
+ * Con la composición desactivada ambas se ejecutan en secuencia en el hilo actual.
+ *
+ * Cada petición que se bifurca retiene su conexión mientras espera otra para el hilo virtual.
+ * Como mucho max-concurrency peticiones se bifurcan a la vez; las demás se ejecutan en
+ * secuencia sin esperar. Con max-concurrency por debajo del tamaño del pool siempre queda
+ * alguna conexión para avanzar y el pool no puede quedar bloqueado por las esperas cruzadas.
+ */
+@Component
+public class FanOutExecutor implements DisposableBean {
+
+    private final boolean enabled;
+    private final Duration deadline;
+    private final Semaphore permisos;
+    private final ExecutorService executor;
+
+    public FanOutExecutor(@Value("${universidad.fan-out.enabled:false}") boolean enabled,
+                          @Value("${universidad.fan-out.deadline:2s}") Duration deadline,
+                          @Value("${universidad.fan-out.max-concurrency:4}") int maxConcurrency) {
+        this.enabled = enabled;
+        this.deadline = deadline;
+        this.permisos = new Semaphore(maxConcurrency);
+        this.executor = enabled ? Executors.newVirtualThreadPerTaskExecutor() : null;
+    }
+
+    /**
+     * Ejecutor sin paralelismo, para usos fuera del contenedor de Spring
+     */
+    public static FanOutExecutor secuencial() {
+        return new FanOutExecutor(false, Duration.ZERO, 0);
+    }
+
+    public <A, B, R> R combinar(Supplier<A> primera, Supplier<B> segunda, BiFunction<A, B, R> combinacion) {
+        if (!enabled || !permisos.tryAcquire()) {
+            A a = primera.get();
+            return combinacion.apply(a, segunda.get());
+        }
+
+        long limite = System.nanoTime() + deadline.toNanos();
+        // El permiso se libera al terminar el hilo, también si se canceló antes de empezar
+        FutureTask<B> futuro = new FutureTask<>(segunda::get) {
+            @Override
+            public void run() {
+                try {
+                    super.run();
+                } finally {
+                    permisos.release();
+                }
+            }
+        };
+        try {
+            executor.execute(futuro);
+        } catch (RuntimeException e) {
+            permisos.release();
+            throw e;
+        }
+
+        A a;
+        try {
+            a = primera.get();
+        } catch (RuntimeException | Error e) {
+            futuro.cancel(true);
+            throw e;
+        }
+        if (limite - System.nanoTime() <= 0) {
+            futuro.cancel(true);
+            throw new DeadlineExceededException(deadline);
+        }
+
+        return combinacion.apply(a, esperar(futuro, limite));
+    }
+
+    private <T> T esperar(Future<T> futuro, long limite) {
+        try {
+            return futuro.get(Math.max(0, limite - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            futuro.cancel(true);
+            throw new DeadlineExceededException(deadline);
+        } catch (InterruptedException e) {
+            futuro.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Consulta interrumpida", e);
+        } catch (ExecutionException e) {
+            Throwable causa = e.getCause();
+            if (causa instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (causa instanceof Error error) {
+                throw error;
+            }
+            throw new RuntimeException(causa);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+}
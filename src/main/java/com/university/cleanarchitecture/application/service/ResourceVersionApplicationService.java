@@ -0,0 +1,36 @@
+package com.university.cleanarchitecture.application.service;
+
+import com.university.cleanarchitecture.application.port.in.FindResourceVersionUseCase;
+import com.university.cleanarchitecture.application.port.out.ResourceVersionPort;
+import com.university.cleanarchitecture.domain.model.valueobjects.CarreraId;
+import com.university.cleanarchitecture.domain.model.valueobjects.FacultadId;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Service
+@Transactional(readOnly = true)
+public class ResourceVersionApplicationService implements FindResourceVersionUseCase {
+
+    private final ResourceVersionPort resourceVersionPort;
+
+    public ResourceVersionApplicationService(ResourceVersionPort resourceVersionPort) {
+        this.resourceVersionPort = resourceVersionPort;
+    }
+
+    @Override
+    public Optional<String> findFacultadVersion(Long facultadId) {
+        return resourceVersionPort.findFacultadVersion(FacultadId.of(facultadId));
+    }
+
+    @Override
+    public Optional<String> findCarreraVersion(Long carreraId) {
+        return resourceVersionPort.findCarreraVersion(CarreraId.of(carreraId));
+    }
+
+    @Override
+    public String findFacultadesVersion() {
+        return resourceVersionPort.findFacultadesVersion();
+    }
+}
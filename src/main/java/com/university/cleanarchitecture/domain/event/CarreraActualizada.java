@@ -0,0 +1,19 @@
+package com.university.cleanarchitecture.domain.event;
+
+import com.university.cleanarchitecture.domain.model.valueobjects.CarreraId;
+import com.university.cleanarchitecture.domain.model.valueobjects.FacultadId;
+import com.university.cleanarchitecture.domain.model.valueobjects.NombreAcademico;
+
+public class CarreraActualizada extends CarreraEvent {
+
+    private final String nombre;
+
+    public CarreraActualizada(CarreraId carreraId, FacultadId facultadId, NombreAcademico nombre) {
+        super(carreraId, facultadId);
+        this.nombre = nombre.getValue();
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+}
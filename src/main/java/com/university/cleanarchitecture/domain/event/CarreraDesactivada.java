@@ -0,0 +1,11 @@
+package com.university.cleanarchitecture.domain.event;
+
+import com.university.cleanarchitecture.domain.model.valueobjects.CarreraId;
+import com.university.cleanarchitecture.domain.model.valueobjects.FacultadId;
+
+public class CarreraDesactivada extends CarreraEvent {
+
+    public CarreraDesactivada(CarreraId carreraId, FacultadId facultadId) {
+        super(carreraId, facultadId);
+    }
+}
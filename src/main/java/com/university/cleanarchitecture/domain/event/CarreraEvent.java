@@ -0,0 +1,21 @@
+package com.university.cleanarchitecture.domain.event;
+
+import com.university.cleanarchitecture.domain.model.valueobjects.CarreraId;
+import com.university.cleanarchitecture.domain.model.valueobjects.FacultadId;
+
+/**
+ * Evento de una carrera; incluye su facultad para que los consumidores puedan filtrar por ella.
+ */
+public abstract class CarreraEvent extends DomainEvent {
+
+    private final Long facultadId;
+
+    protected CarreraEvent(CarreraId carreraId, FacultadId facultadId) {
+        super("Carrera", carreraId.getValue());
+        this.facultadId = facultadId.getValue();
+    }
+
+    public Long getFacultadId() {
+        return facultadId;
+    }
+}
@@ -0,0 +1,23 @@
+package com.university.cleanarchitecture.domain.event;
+
+import com.university.cleanarchitecture.domain.model.valueobjects.FacultadId;
+
+public class DecanoCambiado extends FacultadEvent {
+
+    private final String decanoAnterior;
+    private final String decanoNuevo;
+
+    public DecanoCambiado(FacultadId facultadId, String decanoAnterior, String decanoNuevo) {
+        super(facultadId);
+        this.decanoAnterior = decanoAnterior;
+        this.decanoNuevo = decanoNuevo;
+    }
+
+    public String getDecanoAnterior() {
+        return decanoAnterior;
+    }
+
+    public String getDecanoNuevo() {
+        return decanoNuevo;
+    }
+}
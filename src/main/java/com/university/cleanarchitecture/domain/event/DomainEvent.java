@@ -0,0 +1,52 @@
+package com.university.cleanarchitecture.domain.event;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Hecho ocurrido en un agregado. Los agregados los acumulan al cambiar de estado y la capa de
+ * aplicación los extrae al guardarlos.
+ */
+public abstract class DomainEvent {
+
+    private final UUID eventId;
+    private final LocalDateTime ocurridoEn;
+    private final String agregado;
+    private final Long agregadoId;
+
+    protected DomainEvent(String agregado, Long agregadoId) {
+        this.eventId = UUID.randomUUID();
+        this.ocurridoEn = LocalDateTime.now();
+        this.agregado = Objects.requireNonNull(agregado, "El agregado no puede ser nulo");
+        this.agregadoId = Objects.requireNonNull(agregadoId, "El ID del agregado no puede ser nulo");
+    }
+
+    /**
+     * Nombre del evento, p. ej. "CarreraDesactivada"
+     */
+    public String getTipo() {
+        return getClass().getSimpleName();
+    }
+
+    public UUID getEventId() {
+        return eventId;
+    }
+
+    public LocalDateTime getOcurridoEn() {
+        return ocurridoEn;
+    }
+
+    public String getAgregado() {
+        return agregado;
+    }
+
+    public Long getAgregadoId() {
+        return agregadoId;
+    }
+
+    @Override
+    public String toString() {
+        return getTipo() + "{" + agregado + "=" + agregadoId + ", eventId=" + eventId + "}";
+    }
+}
@@ -0,0 +1,10 @@
+package com.university.cleanarchitecture.domain.event;
+
+import com.university.cleanarchitecture.domain.model.valueobjects.FacultadId;
+
+public class FacultadActivada extends FacultadEvent {
+
+    public FacultadActivada(FacultadId facultadId) {
+        super(facultadId);
+    }
+}
@@ -0,0 +1,18 @@
+package com.university.cleanarchitecture.domain.event;
+
+import com.university.cleanarchitecture.domain.model.valueobjects.FacultadId;
+import com.university.cleanarchitecture.domain.model.valueobjects.NombreAcademico;
+
+public class FacultadActualizada extends FacultadEvent {
+
+    private final String nombre;
+
+    public FacultadActualizada(FacultadId facultadId, NombreAcademico nombre) {
+        super(facultadId);
+        this.nombre = nombre.getValue();
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+}
@@ -0,0 +1,13 @@
+package com.university.cleanarchitecture.domain.event;
+
+import com.university.cleanarchitecture.domain.model.valueobjects.FacultadId;
+
+/**
+ * Evento de una facultad.
+ */
+public abstract class FacultadEvent extends DomainEvent {
+
+    protected FacultadEvent(FacultadId facultadId) {
+        super("Facultad", facultadId.getValue());
+    }
+}
@@ -0,0 +1,13 @@
+package com.university.cleanarchitecture.domain.exception;
+
+public class VersionConflictException extends DomainException {
+
+    public VersionConflictException(String message) {
+        super(message);
+    }
+
+    public VersionConflictException(String entidad, Long id, Long versionEsperada, Long versionActual) {
+        super(entidad + " con ID " + id + " fue modificada por otra operación (versión enviada: "
+                + versionEsperada + ", versión actual: " + versionActual + ")");
+    }
+}
@@ -1,11 +1,19 @@
 package com.university.cleanarchitecture.domain.model;
 
+import com.university.cleanarchitecture.domain.event.CarreraActivada;
+import com.university.cleanarchitecture.domain.event.CarreraActualizada;
+import com.university.cleanarchitecture.domain.event.CarreraDesactivada;
+import com.university.cleanarchitecture.domain.event.CarreraRegistrada;
+import com.university.cleanarchitecture.domain.event.DomainEvent;
+import com.university.cleanarchitecture.domain.exception.VersionConflictException;
 import com.university.cleanarchitecture.domain.model.valueobjects.CarreraId;
 import com.university.cleanarchitecture.domain.model.valueobjects.Duracion;
 import com.university.cleanarchitecture.domain.model.valueobjects.FacultadId;
 import com.university.cleanarchitecture.domain.model.valueobjects.NombreAcademico;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 public class Carrera {
@@ -18,19 +26,36 @@ public class Carrera {
     private String tituloOtorgado;
     private final LocalDateTime fechaRegistro;
     private boolean activo;
+    // Versión leída de persistencia; nula mientras la carrera no se ha guardado
+    private final Long version;
+    // Eventos de dominio pendientes de guardar junto con la carrera
+    private final List<DomainEvent> eventos = new ArrayList<>();
 
     // Constructor completo (para reconstrucción desde persistencia)
     public Carrera(CarreraId id, FacultadId facultadId, NombreAcademico nombre,
                    String descripcion, Duracion duracion, String tituloOtorgado,
                    LocalDateTime fechaRegistro, boolean activo) {
+        this(id, facultadId, nombre, descripcion, duracion, tituloOtorgado, fechaRegistro, activo, null, true);
+    }
+
+    private Carrera(CarreraId id, FacultadId facultadId, NombreAcademico nombre,
+                    String descripcion, Duracion duracion, String tituloOtorgado,
+                    LocalDateTime fechaRegistro, boolean activo, Long version, boolean validar) {
         this.id = Objects.requireNonNull(id, "CarreraId no puede ser nulo");
         this.facultadId = Objects.requireNonNull(facultadId, "FacultadId no puede ser nulo");
-        this.setNombre(nombre);
         this.descripcion = descripcion;
-        this.setDuracion(duracion);
-        this.setTituloOtorgado(tituloOtorgado);
         this.fechaRegistro = Objects.requireNonNull(fechaRegistro, "Fecha de registro no puede ser nula");
         this.activo = activo;
+        this.version = version;
+        if (validar) {
+            this.setNombre(nombre);
+            this.setDuracion(duracion);
+            this.setTituloOtorgado(tituloOtorgado);
+        } else {
+            this.nombre = nombre;
+            this.duracion = duracion;
+            this.tituloOtorgado = tituloOtorgado;
+        }
     }
 
     // Constructor para crear nueva carrera
@@ -45,11 +70,33 @@ public class Carrera {
      */
     public static Carrera crear(CarreraId id, FacultadId facultadId, NombreAcademico nombre,
                                 String descripcion, Duracion duracion, String tituloOtorgado) {
-        return new Carrera(id, facultadId, nombre, descripcion, duracion, tituloOtorgado);
+        Carrera carrera = new Carrera(id, facultadId, nombre, descripcion, duracion, tituloOtorgado);
+        carrera.eventos.add(new CarreraRegistrada(carrera.id, carrera.facultadId, carrera.nombre));
+        return carrera;
+    }
+
+    /**
+     * Reconstruye una carrera leída de persistencia sin repetir las validaciones que se
+     * aplicaron al guardarla. No debe usarse con datos de entrada del usuario.
+     */
+    public static Carrera rehidratar(CarreraId id, FacultadId facultadId, NombreAcademico nombre,
+                                     String descripcion, Duracion duracion, String tituloOtorgado,
+                                     LocalDateTime fechaRegistro, boolean activo, Long version) {
+        return new Carrera(id, facultadId, nombre, descripcion, duracion, tituloOtorgado,
+                fechaRegistro, activo, version, false);
     }
 
     // Métodos de negocio
 
+    /**
+     * Comprueba que la carrera no cambió desde la versión que leyó el cliente
+     */
+    public void verificarVersion(Long versionEsperada) {
+        if (!Objects.equals(this.version, versionEsperada)) {
+            throw new VersionConflictException("Carrera", id.getValue(), versionEsperada, version);
+        }
+    }
+
     /**
      * Actualiza la información académica de la carrera
      */
@@ -59,6 +106,7 @@ public class Carrera {
         this.descripcion = descripcion;
         this.setDuracion(duracion);
         this.setTituloOtorgado(tituloOtorgado);
+        registrarActualizacion();
     }
 
     /**
@@ -70,6 +118,7 @@ public class Carrera {
             throw new IllegalArgumentException("La nueva duración es igual a la actual");
         }
         this.setDuracion(nuevaDuracion);
+        registrarActualizacion();
     }
 
     /**
@@ -77,6 +126,7 @@ public class Carrera {
      */
     public void actualizarTituloOtorgado(String nuevoTitulo) {
         this.setTituloOtorgado(nuevoTitulo);
+        registrarActualizacion();
     }
 
     /**
@@ -87,6 +137,7 @@ public class Carrera {
             throw new IllegalStateException("La carrera ya está desactivada");
         }
         this.activo = false;
+        eventos.add(new CarreraDesactivada(id, facultadId));
     }
 
     /**
@@ -97,6 +148,22 @@ public class Carrera {
             throw new IllegalStateException("La carrera ya está activa");
         }
         this.activo = true;
+        eventos.add(new CarreraActivada(id, facultadId));
+    }
+
+    /**
+     * Devuelve los eventos pendientes y los descarta del agregado
+     */
+    public List<DomainEvent> extraerEventos() {
+        List<DomainEvent> pendientes = List.copyOf(eventos);
+        eventos.clear();
+        return pendientes;
+    }
+
+    // Varias modificaciones en la misma operación producen un único evento
+    private void registrarActualizacion() {
+        eventos.removeIf(evento -> evento instanceof CarreraActualizada);
+        eventos.add(new CarreraActualizada(id, facultadId, nombre));
     }
 
     /**
@@ -177,6 +244,10 @@ public class Carrera {
         return activo;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     // Setters privados con validación
 
     private void setNombre(NombreAcademico nombre) {
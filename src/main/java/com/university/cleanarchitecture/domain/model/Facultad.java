@@ -1,9 +1,18 @@
 package com.university.cleanarchitecture.domain.model;
 
+import com.university.cleanarchitecture.domain.event.DecanoCambiado;
+import com.university.cleanarchitecture.domain.event.DomainEvent;
+import com.university.cleanarchitecture.domain.event.FacultadActivada;
+import com.university.cleanarchitecture.domain.event.FacultadActualizada;
+import com.university.cleanarchitecture.domain.event.FacultadDesactivada;
+import com.university.cleanarchitecture.domain.event.FacultadRegistrada;
+import com.university.cleanarchitecture.domain.exception.VersionConflictException;
 import com.university.cleanarchitecture.domain.model.valueobjects.FacultadId;
 import com.university.cleanarchitecture.domain.model.valueobjects.NombreAcademico;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 public class Facultad {
@@ -15,11 +24,21 @@ public class Facultad {
     private String decano;
     private final LocalDateTime fechaRegistro;
     private boolean activo;
+    // Versión leída de persistencia; nula mientras la facultad no se ha guardado
+    private final Long version;
+    // Eventos de dominio pendientes de guardar junto con la facultad
+    private final List<DomainEvent> eventos = new ArrayList<>();
 
     // Constructor completo (para reconstrucción desde persistencia)
     public Facultad(FacultadId id, NombreAcademico nombre, String descripcion,
                     String ubicacion, String decano, LocalDateTime fechaRegistro,
                     boolean activo) {
+        this(id, nombre, descripcion, ubicacion, decano, fechaRegistro, activo, null);
+    }
+
+    private Facultad(FacultadId id, NombreAcademico nombre, String descripcion,
+                     String ubicacion, String decano, LocalDateTime fechaRegistro,
+                     boolean activo, Long version) {
         this.id = Objects.requireNonNull(id, "FacultadId no puede ser nulo");
         this.setNombre(nombre);
         this.descripcion = descripcion;
@@ -27,6 +46,7 @@ public class Facultad {
         this.decano = decano;
         this.fechaRegistro = Objects.requireNonNull(fechaRegistro, "Fecha de registro no puede ser nula");
         this.activo = activo;
+        this.version = version;
     }
 
     // Constructor para crear nueva facultad
@@ -40,11 +60,32 @@ public class Facultad {
      */
     public static Facultad crear(FacultadId id, NombreAcademico nombre, String descripcion,
                                  String ubicacion, String decano) {
-        return new Facultad(id, nombre, descripcion, ubicacion, decano);
+        Facultad facultad = new Facultad(id, nombre, descripcion, ubicacion, decano);
+        facultad.eventos.add(new FacultadRegistrada(facultad.id, facultad.nombre));
+        return facultad;
+    }
+
+    /**
+     * Reconstruye una facultad leída de persistencia.
+     * El nombre debe llegar ya rehidratado con NombreAcademico.rehidratar.
+     */
+    public static Facultad rehidratar(FacultadId id, NombreAcademico nombre, String descripcion,
+                                      String ubicacion, String decano, LocalDateTime fechaRegistro,
+                                      boolean activo, Long version) {
+        return new Facultad(id, nombre, descripcion, ubicacion, decano, fechaRegistro, activo, version);
     }
 
     // Métodos de negocio
 
+    /**
+     * Comprueba que la facultad no cambió desde la versión que leyó el cliente
+     */
+    public void verificarVersion(Long versionEsperada) {
+        if (!Objects.equals(this.version, versionEsperada)) {
+            throw new VersionConflictException("Facultad", id.getValue(), versionEsperada, version);
+        }
+    }
+
     /**
      * Actualiza la información básica de la facultad
      */
@@ -52,6 +93,7 @@ public class Facultad {
         this.setNombre(nombre);
         this.descripcion = descripcion;
         this.ubicacion = ubicacion;
+        eventos.add(new FacultadActualizada(id, this.nombre));
     }
 
     /**
@@ -61,7 +103,9 @@ public class Facultad {
         if (nuevoDecano == null || nuevoDecano.trim().isEmpty()) {
             throw new IllegalArgumentException("El nombre del decano no puede estar vacío");
         }
+        String decanoAnterior = this.decano;
         this.decano = nuevoDecano.trim();
+        eventos.add(new DecanoCambiado(id, decanoAnterior, this.decano));
     }
 
     /**
@@ -72,6 +116,7 @@ public class Facultad {
             throw new IllegalStateException("La facultad ya está desactivada");
         }
         this.activo = false;
+        eventos.add(new FacultadDesactivada(id));
     }
 
     /**
@@ -82,6 +127,16 @@ public class Facultad {
             throw new IllegalStateException("La facultad ya está activa");
         }
         this.activo = true;
+        eventos.add(new FacultadActivada(id));
+    }
+
+    /**
+     * Devuelve los eventos pendientes y los descarta del agregado
+     */
+    public List<DomainEvent> extraerEventos() {
+        List<DomainEvent> pendientes = List.copyOf(eventos);
+        eventos.clear();
+        return pendientes;
     }
 
     /**
@@ -123,6 +178,10 @@ public class Facultad {
         return activo;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     // Setters privados con validación
 
     private void setNombre(NombreAcademico nombre) {
@@ -2,13 +2,20 @@ package com.university.cleanarchitecture.domain.model.valueobjects;
 
 import com.university.cleanarchitecture.domain.exception.InvalidDurationException;
 
-import java.util.Objects;
-
 public class Duracion {
 
     private static final int MIN_SEMESTRES = 6;
     private static final int MAX_SEMESTRES = 14;
 
+    // Flyweight: sólo existen 9 duraciones válidas
+    private static final Duracion[] VALORES = new Duracion[MAX_SEMESTRES - MIN_SEMESTRES + 1];
+
+    static {
+        for (int s = MIN_SEMESTRES; s <= MAX_SEMESTRES; s++) {
+            VALORES[s - MIN_SEMESTRES] = new Duracion(s);
+        }
+    }
+
     private final int semestres;
 
     public Duracion(int semestres) {
@@ -18,8 +25,14 @@ public class Duracion {
         this.semestres = semestres;
     }
 
+    /**
+     * Devuelve la instancia compartida para la duración indicada
+     */
     public static Duracion of(int semestres) {
-        return new Duracion(semestres);
+        if (semestres < MIN_SEMESTRES || semestres > MAX_SEMESTRES) {
+            throw new InvalidDurationException(semestres);
+        }
+        return VALORES[semestres - MIN_SEMESTRES];
     }
 
     public int getSemestres() {
@@ -64,7 +77,7 @@ public class Duracion {
 
     @Override
     public int hashCode() {
-        return Objects.hash(semestres);
+        return Integer.hashCode(semestres);
     }
 
     @Override
@@ -1,21 +1,31 @@
 package com.university.cleanarchitecture.domain.model.valueobjects;
 
+import java.util.Locale;
 import java.util.Objects;
+import java.util.Set;
 
 public class NombreAcademico {
 
     private static final int MIN_LENGTH = 3;
     private static final int MAX_LENGTH = 100;
 
+    // Preposiciones y artículos que se mantienen en minúscula
+    private static final String[] PALABRAS_MINUSCULA = {"de", "del", "la", "las", "los", "el", "y", "e"};
+    private static final Set<String> PALABRAS_MINUSCULA_SET = Set.of(PALABRAS_MINUSCULA);
+
     private final String value;
 
     public NombreAcademico(String value) {
-        if (value == null || value.trim().isEmpty()) {
+        if (value == null) {
             throw new IllegalArgumentException("El nombre académico no puede estar vacío");
         }
 
         String trimmed = value.trim();
 
+        if (trimmed.isEmpty()) {
+            throw new IllegalArgumentException("El nombre académico no puede estar vacío");
+        }
+
         if (trimmed.length() < MIN_LENGTH) {
             throw new IllegalArgumentException(
                     "El nombre académico debe tener al menos " + MIN_LENGTH + " caracteres"
@@ -31,14 +41,148 @@ public class NombreAcademico {
         this.value = normalizar(trimmed);
     }
 
+    // Constructor sin validación para valores leídos de persistencia
+    private NombreAcademico(String valorNormalizado, boolean rehidratado) {
+        this.value = Objects.requireNonNull(valorNormalizado, "El nombre académico no puede ser nulo");
+    }
+
     public static NombreAcademico of(String value) {
         return new NombreAcademico(value);
     }
 
     /**
-     * Normaliza el nombre: Primera letra de cada palabra en mayúscula
+     * Reconstruye un nombre que ya fue validado y normalizado al guardarse, sin repetir
+     * ese trabajo. Sólo para datos leídos de persistencia, nunca para entradas del usuario.
+     */
+    public static NombreAcademico rehidratar(String valorNormalizado) {
+        return new NombreAcademico(valorNormalizado, true);
+    }
+
+    /**
+     * Normaliza el nombre: Primera letra de cada palabra en mayúscula.
+     * Recorre el texto carácter a carácter; si ya está normalizado (el caso habitual al
+     * leer de la base de datos) devuelve la misma instancia sin reservar memoria.
+     */
+    private static String normalizar(String nombre) {
+        if (!admiteRecorridoPorCaracter(nombre)) {
+            return normalizarPorPalabras(nombre);
+        }
+        if (estaNormalizado(nombre)) {
+            return nombre;
+        }
+
+        int longitud = nombre.length();
+        StringBuilder resultado = new StringBuilder(longitud + 1);
+        int i = 0;
+
+        while (i < longitud) {
+            while (i < longitud && esSeparador(nombre.charAt(i))) {
+                i++;
+            }
+            int inicio = i;
+            while (i < longitud && !esSeparador(nombre.charAt(i))) {
+                i++;
+            }
+            if (i == inicio) {
+                break;
+            }
+
+            if (resultado.length() > 0) {
+                resultado.append(' ');
+            }
+
+            boolean minuscula = esPalabraMinuscula(nombre, inicio, i - inicio);
+            for (int j = inicio; j < i; j++) {
+                char c = nombre.charAt(j);
+                if (j == inicio && !minuscula) {
+                    appendMayuscula(resultado, c);
+                } else {
+                    resultado.append(Character.toLowerCase(c));
+                }
+            }
+        }
+
+        return resultado.toString();
+    }
+
+    /**
+     * Indica si normalizar el texto lo dejaría igual: palabras separadas por un único espacio,
+     * inicial en mayúscula y resto en minúscula (o todo en minúscula para artículos y preposiciones).
+     */
+    private static boolean estaNormalizado(String nombre) {
+        int longitud = nombre.length();
+        int inicio = 0;
+
+        for (int i = 0; i <= longitud; i++) {
+            if (i < longitud && !esSeparador(nombre.charAt(i))) {
+                continue;
+            }
+            if (i == inicio || (i < longitud && nombre.charAt(i) != ' ')) {
+                return false;
+            }
+
+            boolean minuscula = esPalabraMinuscula(nombre, inicio, i - inicio);
+            char primera = nombre.charAt(inicio);
+            if (minuscula ? Character.toLowerCase(primera) != primera
+                    : primera == 'ß' || Character.toUpperCase(primera) != primera) {
+                return false;
+            }
+            for (int j = inicio + 1; j < i; j++) {
+                char c = nombre.charAt(j);
+                if (Character.toLowerCase(c) != c) {
+                    return false;
+                }
+            }
+            inicio = i + 1;
+        }
+
+        return true;
+    }
+
+    /**
+     * El recorrido por carácter equivale a String.toUpperCase/toLowerCase sólo para texto Latin-1
+     * y fuera de los locales con reglas de mayúsculas propias; en otro caso se usa la versión por palabras.
+     */
+    private static boolean admiteRecorridoPorCaracter(String texto) {
+        String idioma = Locale.getDefault().getLanguage();
+        if (idioma.equals("tr") || idioma.equals("az") || idioma.equals("lt")) {
+            return false;
+        }
+        for (int i = 0; i < texto.length(); i++) {
+            if (texto.charAt(i) > '\u00FF') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Mismos separadores que la clase \s de las expresiones regulares
+    private static boolean esSeparador(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static void appendMayuscula(StringBuilder destino, char c) {
+        // 'ß' no tiene mayúscula de un solo carácter
+        if (c == 'ß') {
+            destino.append("SS");
+        } else {
+            destino.append(Character.toUpperCase(c));
+        }
+    }
+
+    /**
+     * Verifica si la palabra [inicio, inicio + longitud) debe estar en minúscula (artículos, preposiciones)
      */
-    private String normalizar(String nombre) {
+    private static boolean esPalabraMinuscula(String texto, int inicio, int longitud) {
+        for (String palabra : PALABRAS_MINUSCULA) {
+            if (palabra.length() == longitud && texto.regionMatches(true, inicio, palabra, 0, longitud)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String normalizarPorPalabras(String nombre) {
         String[] palabras = nombre.split("\\s+");
         StringBuilder resultado = new StringBuilder();
 
@@ -49,8 +193,7 @@ public class NombreAcademico {
 
             String palabra = palabras[i];
             if (!palabra.isEmpty()) {
-                // Excepciones: preposiciones y artículos en minúscula
-                if (esPalabraMinuscula(palabra.toLowerCase())) {
+                if (PALABRAS_MINUSCULA_SET.contains(palabra.toLowerCase())) {
                     resultado.append(palabra.toLowerCase());
                 } else {
                     resultado.append(palabra.substring(0, 1).toUpperCase());
@@ -64,15 +207,6 @@ public class NombreAcademico {
         return resultado.toString();
     }
 
-    /**
-     * Verifica si una palabra debe estar en minúscula (artículos, preposiciones)
-     */
-    private boolean esPalabraMinuscula(String palabra) {
-        return palabra.equals("de") || palabra.equals("del") || palabra.equals("la") ||
-                palabra.equals("las") || palabra.equals("los") || palabra.equals("el") ||
-                palabra.equals("y") || palabra.equals("e");
-    }
-
     public String getValue() {
         return value;
     }
@@ -81,11 +215,33 @@ public class NombreAcademico {
      * Obtiene las iniciales del nombre (útil para códigos o abreviaturas)
      */
     public String getIniciales() {
+        if (!admiteRecorridoPorCaracter(value)) {
+            return inicialesPorPalabras();
+        }
+
+        StringBuilder iniciales = new StringBuilder(8);
+        int longitud = value.length();
+        int inicio = 0;
+
+        for (int i = 0; i <= longitud; i++) {
+            if (i < longitud && !esSeparador(value.charAt(i))) {
+                continue;
+            }
+            if (i > inicio && !esPalabraMinuscula(value, inicio, i - inicio)) {
+                appendMayuscula(iniciales, value.charAt(inicio));
+            }
+            inicio = i + 1;
+        }
+
+        return iniciales.toString();
+    }
+
+    private String inicialesPorPalabras() {
         String[] palabras = value.split("\\s+");
         StringBuilder iniciales = new StringBuilder();
 
         for (String palabra : palabras) {
-            if (!palabra.isEmpty() && !esPalabraMinuscula(palabra.toLowerCase())) {
+            if (!palabra.isEmpty() && !PALABRAS_MINUSCULA_SET.contains(palabra.toLowerCase())) {
                 iniciales.append(palabra.charAt(0));
             }
         }
@@ -103,7 +259,7 @@ public class NombreAcademico {
 
     @Override
     public int hashCode() {
-        return Objects.hash(value);
+        return value.hashCode();
     }
 
     @Override
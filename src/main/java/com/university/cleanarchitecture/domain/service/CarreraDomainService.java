@@ -8,6 +8,9 @@ import com.university.cleanarchitecture.domain.model.valueobjects.NombreAcademic
 import com.university.cleanarchitecture.domain.repository.CarreraRepository;
 import com.university.cleanarchitecture.domain.repository.FacultadRepository;
 
+import java.util.Map;
+import java.util.Set;
+
 public class CarreraDomainService {
 
     private final CarreraRepository carreraRepository;
@@ -33,19 +36,49 @@ public class CarreraDomainService {
      * @throws IllegalArgumentException si ya existe una carrera con ese nombre
      */
     public void validarCreacionCarrera(FacultadId facultadId, NombreAcademico nombreCarrera) {
-        // Verificar que la facultad existe
         Facultad facultad = facultadRepository.findById(facultadId)
                 .orElseThrow(() -> new FacultadNotFoundException(facultadId.getValue()));
 
-        // Verificar que la facultad está activa
+        validarFacultadActiva(facultad);
+        validarNombreLibre(nombreCarrera, carreraRepository.existsByNombre(nombreCarrera));
+    }
+
+    /**
+     * Variante de validarCreacionCarrera para lotes: mismas reglas, pero con las facultades y
+     * los nombres ya consultados en bloque en lugar de una consulta por carrera
+     *
+     * @param facultadId el ID de la facultad
+     * @param nombreCarrera el nombre de la carrera
+     * @param facultades facultades del lote por ID; las que no existen no están en el mapa
+     * @param nombresEnUso nombres ya registrados o aceptados antes en el mismo lote
+     * @return la facultad de la carrera
+     * @throws FacultadNotFoundException si la facultad no existe
+     * @throws IllegalStateException si la facultad no está activa
+     * @throws IllegalArgumentException si ya existe una carrera con ese nombre
+     */
+    public Facultad validarCreacionCarrera(FacultadId facultadId, NombreAcademico nombreCarrera,
+                                           Map<FacultadId, Facultad> facultades,
+                                           Set<NombreAcademico> nombresEnUso) {
+        Facultad facultad = facultades.get(facultadId);
+        if (facultad == null) {
+            throw new FacultadNotFoundException(facultadId.getValue());
+        }
+
+        validarFacultadActiva(facultad);
+        validarNombreLibre(nombreCarrera, nombresEnUso.contains(nombreCarrera));
+        return facultad;
+    }
+
+    private void validarFacultadActiva(Facultad facultad) {
         if (!facultad.isActivo()) {
             throw new IllegalStateException(
                     "No se puede crear una carrera en una facultad inactiva: " + facultad.getNombre()
             );
         }
+    }
 
-        // Verificar que no existe otra carrera con el mismo nombre
-        if (carreraRepository.existsByNombre(nombreCarrera)) {
+    private void validarNombreLibre(NombreAcademico nombreCarrera, boolean enUso) {
+        if (enUso) {
             throw new IllegalArgumentException(
                     "Ya existe una carrera con el nombre: " + nombreCarrera.getValue()
             );
@@ -1,22 +1,38 @@
 package com.university.cleanarchitecture.infrastructure.adapter.in.web;
 
 import com.university.cleanarchitecture.application.dto.command.RegisterCarreraCommand;
+import com.university.cleanarchitecture.application.dto.command.RegisterCarrerasBatchCommand;
 import com.university.cleanarchitecture.application.dto.command.UpdateCarreraCommand;
 import com.university.cleanarchitecture.application.dto.query.FindCarreraByIdQuery;
 import com.university.cleanarchitecture.application.dto.query.FindCarrerasByDuracionQuery;
 import com.university.cleanarchitecture.application.dto.query.FindCarrerasByFacultadQuery;
+import com.university.cleanarchitecture.application.dto.query.FindCarrerasPageQuery;
+import com.university.cleanarchitecture.application.dto.query.SearchCarrerasQuery;
+import com.university.cleanarchitecture.application.dto.response.CarreraBatchResponse;
 import com.university.cleanarchitecture.application.dto.response.CarreraResponse;
 import com.university.cleanarchitecture.application.dto.response.CarreraSummaryResponse;
+import com.university.cleanarchitecture.application.dto.response.PageResponse;
 import com.university.cleanarchitecture.application.port.in.*;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/v1/carreras")
@@ -25,27 +41,45 @@ import java.util.List;
 public class CarreraController {
 
     private final RegisterCarreraUseCase registerCarreraUseCase;
+    private final RegisterCarrerasBatchUseCase registerCarrerasBatchUseCase;
     private final UpdateCarreraUseCase updateCarreraUseCase;
     private final FindCarreraByIdUseCase findCarreraByIdUseCase;
     private final FindCarrerasByFacultadUseCase findCarrerasByFacultadUseCase;
     private final FindCarrerasByDuracionUseCase findCarrerasByDuracionUseCase;
+    private final FindCarrerasPageUseCase findCarrerasPageUseCase;
+    private final SearchCarrerasUseCase searchCarrerasUseCase;
     private final ActivateCarreraUseCase activateCarreraUseCase;
     private final DeactivateCarreraUseCase deactivateCarreraUseCase;
+    private final ExportCarrerasUseCase exportCarrerasUseCase;
+    private final FindResourceVersionUseCase findResourceVersionUseCase;
+    private final ObjectMapper objectMapper;
 
     public CarreraController(RegisterCarreraUseCase registerCarreraUseCase,
+                             RegisterCarrerasBatchUseCase registerCarrerasBatchUseCase,
                              UpdateCarreraUseCase updateCarreraUseCase,
                              FindCarreraByIdUseCase findCarreraByIdUseCase,
                              FindCarrerasByFacultadUseCase findCarrerasByFacultadUseCase,
                              FindCarrerasByDuracionUseCase findCarrerasByDuracionUseCase,
+                             FindCarrerasPageUseCase findCarrerasPageUseCase,
+                             SearchCarrerasUseCase searchCarrerasUseCase,
                              ActivateCarreraUseCase activateCarreraUseCase,
-                             DeactivateCarreraUseCase deactivateCarreraUseCase) {
+                             DeactivateCarreraUseCase deactivateCarreraUseCase,
+                             ExportCarrerasUseCase exportCarrerasUseCase,
+                             FindResourceVersionUseCase findResourceVersionUseCase,
+                             ObjectMapper objectMapper) {
         this.registerCarreraUseCase = registerCarreraUseCase;
+        this.registerCarrerasBatchUseCase = registerCarrerasBatchUseCase;
         this.updateCarreraUseCase = updateCarreraUseCase;
         this.findCarreraByIdUseCase = findCarreraByIdUseCase;
         this.findCarrerasByFacultadUseCase = findCarrerasByFacultadUseCase;
         this.findCarrerasByDuracionUseCase = findCarrerasByDuracionUseCase;
+        this.findCarrerasPageUseCase = findCarrerasPageUseCase;
+        this.searchCarrerasUseCase = searchCarrerasUseCase;
         this.activateCarreraUseCase = activateCarreraUseCase;
         this.deactivateCarreraUseCase = deactivateCarreraUseCase;
+        this.exportCarrerasUseCase = exportCarrerasUseCase;
+        this.findResourceVersionUseCase = findResourceVersionUseCase;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
@@ -59,14 +93,116 @@ public class CarreraController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/batch")
+    @Operation(summary = "Registrar carreras en lote",
+            description = "Registra varias carreras en una sola operación e informa el resultado de cada elemento")
+    @ApiResponse(responseCode = "201", description = "Todas las carreras fueron registradas")
+    @ApiResponse(responseCode = "207", description = "Algunas carreras no pudieron registrarse")
+    @ApiResponse(responseCode = "422", description = "Ninguna carrera pudo registrarse")
+    @ApiResponse(responseCode = "400", description = "Datos de entrada inválidos")
+    public ResponseEntity<CarreraBatchResponse> registerCarrerasBatch(
+            @Valid @RequestBody RegisterCarrerasBatchCommand command) {
+        CarreraBatchResponse response = registerCarrerasBatchUseCase.registerBatch(command);
+
+        HttpStatus status;
+        if (response.getFallidas() == 0) {
+            status = HttpStatus.CREATED;
+        } else if (response.getRegistradas() == 0) {
+            status = HttpStatus.UNPROCESSABLE_ENTITY;
+        } else {
+            status = HttpStatus.MULTI_STATUS;
+        }
+        return ResponseEntity.status(status).body(response);
+    }
+
+    @GetMapping
+    @Operation(summary = "Listar carreras paginadas",
+            description = "Lista carreras con filtros opcionales. Por defecto pagina por cursor (nextCursor); "
+                    + "si se indica 'page' usa paginación por offset con totales")
+    @ApiResponse(responseCode = "200", description = "Página de carreras")
+    @ApiResponse(responseCode = "400", description = "Parámetros de paginación inválidos")
+    public ResponseEntity<PageResponse<CarreraSummaryResponse>> getCarrerasPage(
+            @RequestParam(required = false) Long facultadId,
+            @RequestParam(required = false) Integer duracion,
+            @RequestParam(required = false) Integer duracionMinima,
+            @RequestParam(required = false) Integer duracionMaxima,
+            @RequestParam(required = false, defaultValue = "false") Boolean activo,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false, defaultValue = "20") Integer size) {
+        boolean soloActivas = activo == null ? false : activo;
+        FindCarrerasPageQuery query = new FindCarrerasPageQuery(
+                facultadId, duracion, duracionMinima, duracionMaxima, soloActivas, cursor, page, size);
+        PageResponse<CarreraSummaryResponse> carreras = findCarrerasPageUseCase.findPage(query);
+        return ResponseEntity.ok(carreras);
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Buscar carreras",
+            description = "Búsqueda de texto sobre nombre, título otorgado y descripción, ordenada por relevancia. "
+                    + "Cada palabra se trata como prefijo y deben aparecer todas")
+    @ApiResponse(responseCode = "200", description = "Página de resultados")
+    @ApiResponse(responseCode = "400", description = "Texto de búsqueda o paginación inválidos")
+    public ResponseEntity<PageResponse<CarreraSummaryResponse>> searchCarreras(
+            @RequestParam("q") String texto,
+            @RequestParam(required = false, defaultValue = "false") Boolean activo,
+            @RequestParam(required = false, defaultValue = "0") Integer page,
+            @RequestParam(required = false, defaultValue = "20") Integer size) {
+        SearchCarrerasQuery query = new SearchCarrerasQuery(texto, Boolean.TRUE.equals(activo), page, size);
+        return ResponseEntity.ok(searchCarrerasUseCase.search(query));
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Exportar carreras",
+            description = "Exporta todas las carreras como JSON delimitado por saltos de línea (NDJSON), en streaming")
+    @ApiResponse(responseCode = "200", description = "Exportación en curso")
+    public ResponseEntity<StreamingResponseBody> exportCarreras() {
+        // Sin flush por elemento: el generador y el buffer del servidor agrupan las escrituras
+        ObjectWriter writer = objectMapper.writerFor(CarreraResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        StreamingResponseBody body = outputStream -> {
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            try {
+                exportCarrerasUseCase.exportAll(carrera -> {
+                    try {
+                        writer.writeValue(generator, carrera);
+                        generator.writeRaw('\n');
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+            } catch (UncheckedIOException ex) {
+                throw ex.getCause();
+            }
+            generator.flush();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     @GetMapping("/{carreraId}")
     @Operation(summary = "Obtener carrera por ID", description = "Obtiene los detalles de una carrera específica")
     @ApiResponse(responseCode = "200", description = "Carrera encontrada")
+    @ApiResponse(responseCode = "304", description = "La carrera no cambió desde el ETag indicado")
     @ApiResponse(responseCode = "404", description = "Carrera no encontrada")
-    public ResponseEntity<CarreraResponse> getCarreraById(@PathVariable Long carreraId) {
+    public ResponseEntity<CarreraResponse> getCarreraById(@PathVariable Long carreraId, WebRequest request) {
+        Optional<String> etag = findResourceVersionUseCase.findCarreraVersion(carreraId).map(ETags::of);
+        if (etag.isPresent() && request.checkNotModified(etag.get())) {
+            return null;
+        }
+
         FindCarreraByIdQuery query = new FindCarreraByIdQuery(carreraId);
         CarreraResponse response = findCarreraByIdUseCase.findById(query);
-        return ResponseEntity.ok(response);
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().cacheControl(CacheControl.noCache());
+        etag.ifPresent(builder::eTag);
+        return builder.body(response);
     }
 
     @GetMapping("/facultad/{facultadId}")
@@ -99,6 +235,7 @@ public class CarreraController {
     @ApiResponse(responseCode = "200", description = "Carrera actualizada exitosamente")
     @ApiResponse(responseCode = "404", description = "Carrera no encontrada")
     @ApiResponse(responseCode = "400", description = "Datos de entrada inválidos")
+    @ApiResponse(responseCode = "409", description = "La carrera fue modificada por otra operación")
     public ResponseEntity<CarreraResponse> updateCarrera(
             @PathVariable Long carreraId,
             @Valid @RequestBody UpdateCarreraCommand command) {
@@ -107,7 +244,8 @@ public class CarreraController {
                 command.getNombre(),
                 command.getDescripcion(),
                 command.getDuracionSemestres(),
-                command.getTituloOtorgado()
+                command.getTituloOtorgado(),
+                command.getVersion()
         );
         CarreraResponse response = updateCarreraUseCase.update(updatedCommand);
         return ResponseEntity.ok(response);
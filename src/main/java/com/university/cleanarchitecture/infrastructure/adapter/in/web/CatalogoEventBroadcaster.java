@@ -0,0 +1,179 @@
+package com.university.cleanarchitecture.infrastructure.adapter.in.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.university.cleanarchitecture.domain.event.DomainEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Reparte los eventos de dominio confirmados entre las conexiones de /stream/catalogo.
+ *
+ * El hilo que confirma la transacción solo encola el evento en el buffer acotado de cada
+ * suscriptor; el envío lo hace un hilo virtual por suscriptor mientras tenga eventos pendientes.
+ * Un cliente que no consume (buffer lleno) se desconecta en lugar de acumular eventos en memoria;
+ * al reconectar debe resincronizarse con GET /api/v1/changes.
+ */
+@Component
+class CatalogoEventBroadcaster implements DisposableBean {
+
+    static final String SUBSCRIBERS = "universidad.stream.subscribers";
+    static final String DISCONNECTED = "universidad.stream.disconnected";
+
+    // Los SseEventBuilder no se pueden compartir entre conexiones: se encola el evento ya
+    // serializado y cada envío construye el suyo
+    private static final Mensaje HEARTBEAT = new Mensaje(null, null, null);
+
+    private final Set<Suscriptor> suscriptores = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final int bufferSize;
+    private final long timeoutMs;
+    private final Counter desconexionesPorLentitud;
+    private final ObjectMapper objectMapper;
+
+    CatalogoEventBroadcaster(MeterRegistry meterRegistry,
+                             ObjectMapper objectMapper,
+                             @Value("${universidad.stream.buffer-size:256}") int bufferSize,
+                             @Value("${universidad.stream.timeout-ms:1800000}") long timeoutMs) {
+        this.bufferSize = bufferSize;
+        this.timeoutMs = timeoutMs;
+        this.objectMapper = objectMapper;
+        Gauge.builder(SUBSCRIBERS, suscriptores, Set::size)
+                .description("Conexiones abiertas a /stream/catalogo")
+                .register(meterRegistry);
+        this.desconexionesPorLentitud = Counter.builder(DISCONNECTED)
+                .description("Suscriptores desconectados por no consumir los eventos a tiempo")
+                .tag("reason", "slow_consumer")
+                .register(meterRegistry);
+    }
+
+    SseEmitter suscribir() {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Suscriptor suscriptor = new Suscriptor(emitter, bufferSize);
+        emitter.onCompletion(() -> cerrar(suscriptor));
+        emitter.onTimeout(() -> cerrar(suscriptor));
+        emitter.onError(ex -> cerrar(suscriptor));
+        suscriptores.add(suscriptor);
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    void onDomainEvent(DomainEvent evento) {
+        if (suscriptores.isEmpty()) {
+            return;
+        }
+        Mensaje mensaje = new Mensaje(evento.getEventId().toString(), evento.getTipo(), toJson(evento));
+        suscriptores.forEach(suscriptor -> entregar(suscriptor, mensaje));
+    }
+
+    // Mantiene abiertas las conexiones a través de proxies y detecta clientes desaparecidos
+    @Scheduled(fixedDelayString = "${universidad.stream.heartbeat-interval-ms:15000}")
+    void heartbeat() {
+        suscriptores.forEach(suscriptor -> entregar(suscriptor, HEARTBEAT));
+    }
+
+    private void entregar(Suscriptor suscriptor, Mensaje mensaje) {
+        if (!suscriptor.pendientes.offer(mensaje)) {
+            desconexionesPorLentitud.increment();
+            cerrar(suscriptor);
+            // complete() espera al envío en curso: nunca en el hilo que confirmó la transacción
+            executor.execute(suscriptor.emitter::complete);
+            return;
+        }
+        programarEnvio(suscriptor);
+    }
+
+    private void programarEnvio(Suscriptor suscriptor) {
+        if (!suscriptor.cerrado && suscriptor.enviando.compareAndSet(false, true)) {
+            executor.execute(() -> enviar(suscriptor));
+        }
+    }
+
+    private void enviar(Suscriptor suscriptor) {
+        try {
+            Mensaje mensaje;
+            while (!suscriptor.cerrado && (mensaje = suscriptor.pendientes.poll()) != null) {
+                suscriptor.emitter.send(mensaje.toEvent());
+            }
+        } catch (Exception ex) {
+            // Conexión cerrada por el cliente: el contenedor notifica onError/onCompletion
+            cerrar(suscriptor);
+        } finally {
+            suscriptor.enviando.set(false);
+        }
+        // Un evento encolado después del último poll y antes de liberar la marca
+        if (!suscriptor.pendientes.isEmpty()) {
+            programarEnvio(suscriptor);
+        }
+    }
+
+    private void cerrar(Suscriptor suscriptor) {
+        suscriptor.cerrado = true;
+        suscriptor.pendientes.clear();
+        suscriptores.remove(suscriptor);
+    }
+
+    private String toJson(DomainEvent evento) {
+        try {
+            return objectMapper.writeValueAsString(evento);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar el evento " + evento, e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        suscriptores.forEach(suscriptor -> suscriptor.emitter.complete());
+        executor.shutdownNow();
+    }
+
+    private static final class Suscriptor {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<Mensaje> pendientes;
+        private final AtomicBoolean enviando = new AtomicBoolean();
+        private volatile boolean cerrado;
+
+        private Suscriptor(SseEmitter emitter, int bufferSize) {
+            this.emitter = emitter;
+            this.pendientes = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+
+    private static final class Mensaje {
+
+        private final String id;
+        private final String nombre;
+        private final String json;
+
+        private Mensaje(String id, String nombre, String json) {
+            this.id = id;
+            this.nombre = nombre;
+            this.json = json;
+        }
+
+        private SseEventBuilder toEvent() {
+            if (this == HEARTBEAT) {
+                return SseEmitter.event().comment("heartbeat");
+            }
+            return SseEmitter.event().id(id).name(nombre).data(json);
+        }
+    }
+}
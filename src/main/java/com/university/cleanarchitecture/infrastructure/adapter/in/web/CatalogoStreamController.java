@@ -0,0 +1,31 @@
+package com.university.cleanarchitecture.infrastructure.adapter.in.web;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/v1/stream")
+@Tag(name = "Cambios", description = "Feed de cambios de facultades y carreras")
+@CrossOrigin(origins = "*")
+public class CatalogoStreamController {
+
+    private final CatalogoEventBroadcaster broadcaster;
+
+    public CatalogoStreamController(CatalogoEventBroadcaster broadcaster) {
+        this.broadcaster = broadcaster;
+    }
+
+    @GetMapping(value = "/catalogo", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Eventos del catálogo en vivo",
+            description = "Server-Sent Events con los cambios confirmados de facultades y carreras "
+                    + "(registro, actualización, activación, desactivación y cambio de decano). "
+                    + "El nombre del evento SSE es el tipo de evento y su id el eventId")
+    @ApiResponse(responseCode = "200", description = "Flujo text/event-stream")
+    public SseEmitter streamCatalogo() {
+        return broadcaster.suscribir();
+    }
+}
@@ -0,0 +1,138 @@
+package com.university.cleanarchitecture.infrastructure.adapter.in.web;
+
+import com.university.cleanarchitecture.application.dto.query.GetChangesQuery;
+import com.university.cleanarchitecture.application.dto.response.ChangesResponse;
+import com.university.cleanarchitecture.application.port.in.FindResourceVersionUseCase;
+import com.university.cleanarchitecture.application.port.in.GetChangesUseCase;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Peticiones de GET /changes que esperan a que haya cambios, sin ocupar un hilo mientras tanto.
+ *
+ * Cada poll-interval se consulta la versión del catálogo (una consulta de agregación,
+ * compartida por todas las esperas); solo cuando cambia se vuelve a ejecutar la consulta de
+ * cambios de cada espera. Así se detectan también las escrituras de otras instancias. Como el
+ * feed retrasa settle-delay las filas recientes, tras un cambio cada espera se revisa durante
+ * settle-delay más un intervalo.
+ *
+ * Las esperas con el mismo cursor y límite comparten una única consulta de cambios por pasada.
+ * El trabajo se hace en un hilo propio para no retener el planificador compartido con el relay
+ * del outbox y el latido del stream; si una pasada sigue en curso, el tick se salta.
+ */
+@Component
+class ChangeFeedLongPoll implements DisposableBean {
+
+    private final GetChangesUseCase getChangesUseCase;
+    private final FindResourceVersionUseCase findResourceVersionUseCase;
+    private final long ventanaRevisionNanos;
+    private final Queue<Espera> esperas = new ConcurrentLinkedQueue<>();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("changes-long-poll").daemon().factory());
+    private final AtomicBoolean enCurso = new AtomicBoolean();
+    // Solo lo usa el hilo de executor
+    private String ultimaVersion;
+
+    ChangeFeedLongPoll(GetChangesUseCase getChangesUseCase,
+                       FindResourceVersionUseCase findResourceVersionUseCase,
+                       @Value("${universidad.changes.settle-delay:2s}") Duration settleDelay,
+                       @Value("${universidad.changes.poll-interval-ms:500}") long pollIntervalMs) {
+        this.getChangesUseCase = getChangesUseCase;
+        this.findResourceVersionUseCase = findResourceVersionUseCase;
+        this.ventanaRevisionNanos = settleDelay.plusMillis(pollIntervalMs).toNanos();
+    }
+
+    /**
+     * Registra la espera; al vencer el timeout del DeferredResult se responde sinCambios.
+     */
+    void esperar(GetChangesQuery query, ChangesResponse sinCambios, DeferredResult<ChangesResponse> resultado) {
+        Espera espera = new Espera(query, resultado, System.nanoTime() + ventanaRevisionNanos);
+        resultado.onTimeout(() -> resultado.setResult(sinCambios));
+        resultado.onCompletion(() -> esperas.remove(espera));
+        esperas.add(espera);
+    }
+
+    @Scheduled(fixedDelayString = "${universidad.changes.poll-interval-ms:500}")
+    void comprobar() {
+        if (esperas.isEmpty() || !enCurso.compareAndSet(false, true)) {
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                revisarEsperas();
+            } finally {
+                enCurso.set(false);
+            }
+        });
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private void revisarEsperas() {
+        long ahora = System.nanoTime();
+        String version = findResourceVersionUseCase.findFacultadesVersion();
+        boolean cambio = !Objects.equals(version, ultimaVersion);
+        ultimaVersion = version;
+
+        Map<Clave, List<Espera>> porCursor = new HashMap<>();
+        for (Espera espera : esperas) {
+            if (espera.resultado.isSetOrExpired()) {
+                esperas.remove(espera);
+                continue;
+            }
+            if (cambio) {
+                espera.revisarHasta = ahora + ventanaRevisionNanos;
+            }
+            if (ahora - espera.revisarHasta <= 0) {
+                porCursor.computeIfAbsent(new Clave(espera.query.getSince(), espera.query.getLimit()),
+                        clave -> new ArrayList<>()).add(espera);
+            }
+        }
+
+        porCursor.forEach((clave, grupo) -> {
+            try {
+                ChangesResponse cambios = getChangesUseCase.getChanges(grupo.get(0).query);
+                if (!cambios.getFacultades().isEmpty() || !cambios.getCarreras().isEmpty()) {
+                    grupo.forEach(espera -> espera.resultado.setResult(cambios));
+                }
+            } catch (RuntimeException ex) {
+                grupo.forEach(espera -> espera.resultado.setErrorResult(ex));
+            }
+        });
+    }
+
+    private record Clave(String since, int limit) {
+    }
+
+    private static final class Espera {
+
+        private final GetChangesQuery query;
+        private final DeferredResult<ChangesResponse> resultado;
+        // Solo lo modifica el hilo de executor
+        private long revisarHasta;
+
+        private Espera(GetChangesQuery query, DeferredResult<ChangesResponse> resultado, long revisarHasta) {
+            this.query = query;
+            this.resultado = resultado;
+            this.revisarHasta = revisarHasta;
+        }
+    }
+}
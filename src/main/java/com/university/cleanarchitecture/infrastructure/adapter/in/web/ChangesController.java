@@ -0,0 +1,55 @@
+package com.university.cleanarchitecture.infrastructure.adapter.in.web;
+
+import com.university.cleanarchitecture.application.dto.query.GetChangesQuery;
+import com.university.cleanarchitecture.application.dto.response.ChangesResponse;
+import com.university.cleanarchitecture.application.port.in.GetChangesUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+
+@RestController
+@RequestMapping("/api/v1/changes")
+@Tag(name = "Cambios", description = "Feed de cambios de facultades y carreras")
+@CrossOrigin(origins = "*")
+public class ChangesController {
+
+    static final int MAX_WAIT_SECONDS = 60;
+
+    private final GetChangesUseCase getChangesUseCase;
+    private final ChangeFeedLongPoll longPoll;
+
+    public ChangesController(GetChangesUseCase getChangesUseCase, ChangeFeedLongPoll longPoll) {
+        this.getChangesUseCase = getChangesUseCase;
+        this.longPoll = longPoll;
+    }
+
+    @GetMapping
+    @Operation(summary = "Obtener cambios",
+            description = "Devuelve las facultades y carreras modificadas desde el cursor 'since' (sin él, "
+                    + "desde el principio) y un nuevo cursor. Si no hay cambios espera hasta 'wait' segundos "
+                    + "a que los haya antes de responder")
+    @ApiResponse(responseCode = "200", description = "Cambios desde el cursor (vacío si venció la espera)")
+    @ApiResponse(responseCode = "400", description = "Cursor o parámetros inválidos")
+    public DeferredResult<ChangesResponse> getChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false, defaultValue = "100") Integer limit,
+            @RequestParam(required = false, defaultValue = "30") Integer wait) {
+        if (wait < 0 || wait > MAX_WAIT_SECONDS) {
+            throw new IllegalArgumentException("La espera debe estar entre 0 y " + MAX_WAIT_SECONDS + " segundos");
+        }
+
+        GetChangesQuery query = new GetChangesQuery(since, limit);
+        ChangesResponse cambios = getChangesUseCase.getChanges(query);
+
+        DeferredResult<ChangesResponse> resultado = new DeferredResult<>(wait * 1000L);
+        if (wait == 0 || !cambios.getFacultades().isEmpty() || !cambios.getCarreras().isEmpty()) {
+            resultado.setResult(cambios);
+        } else {
+            // Las siguientes consultas parten del cursor ya normalizado
+            longPoll.esperar(new GetChangesQuery(cambios.getCursor(), limit), cambios, resultado);
+        }
+        return resultado;
+    }
+}
@@ -0,0 +1,30 @@
+package com.university.cleanarchitecture.infrastructure.adapter.in.web;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Genera ETags fuertes a partir de la versión de un recurso y de los parámetros que
+ * cambian su representación.
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    static String of(String version, Object... variantes) {
+        StringBuilder contenido = new StringBuilder(version);
+        for (Object variante : variantes) {
+            contenido.append('|').append(variante);
+        }
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(contenido.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.university.cleanarchitecture.application.dto.command.UpdateFacultadCo
 import com.university.cleanarchitecture.application.dto.query.FindAllFacultadesQuery;
 import com.university.cleanarchitecture.application.dto.query.FindFacultadByIdQuery;
 import com.university.cleanarchitecture.application.dto.query.FindFacultadByNombreQuery;
+import com.university.cleanarchitecture.application.dto.query.FindFacultadesByUbicacionQuery;
 import com.university.cleanarchitecture.application.dto.response.FacultadResponse;
 import com.university.cleanarchitecture.application.dto.response.FacultadSummaryResponse;
 import com.university.cleanarchitecture.application.port.in.*;
@@ -13,11 +14,15 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/v1/facultades")
@@ -29,27 +34,33 @@ public class FacultadController {
     private final UpdateFacultadUseCase updateFacultadUseCase;
     private final FindFacultadByIdUseCase findFacultadByIdUseCase;
     private final FindAllFacultadesUseCase findAllFacultadesUseCase;
+    private final FindFacultadesByUbicacionUseCase findFacultadesByUbicacionUseCase;
     private final FindFacultadByNombreUseCase findFacultadByNombreUseCase;
     private final ActivateFacultadUseCase activateFacultadUseCase;
     private final DeactivateFacultadUseCase deactivateFacultadUseCase;
     private final CambiarDecanoUseCase cambiarDecanoUseCase;
+    private final FindResourceVersionUseCase findResourceVersionUseCase;
 
     public FacultadController(RegisterFacultadUseCase registerFacultadUseCase,
                               UpdateFacultadUseCase updateFacultadUseCase,
                               FindFacultadByIdUseCase findFacultadByIdUseCase,
                               FindAllFacultadesUseCase findAllFacultadesUseCase,
+                              FindFacultadesByUbicacionUseCase findFacultadesByUbicacionUseCase,
                               FindFacultadByNombreUseCase findFacultadByNombreUseCase,
                               ActivateFacultadUseCase activateFacultadUseCase,
                               DeactivateFacultadUseCase deactivateFacultadUseCase,
-                              CambiarDecanoUseCase cambiarDecanoUseCase) {
+                              CambiarDecanoUseCase cambiarDecanoUseCase,
+                              FindResourceVersionUseCase findResourceVersionUseCase) {
         this.registerFacultadUseCase = registerFacultadUseCase;
         this.updateFacultadUseCase = updateFacultadUseCase;
         this.findFacultadByIdUseCase = findFacultadByIdUseCase;
         this.findAllFacultadesUseCase = findAllFacultadesUseCase;
+        this.findFacultadesByUbicacionUseCase = findFacultadesByUbicacionUseCase;
         this.findFacultadByNombreUseCase = findFacultadByNombreUseCase;
         this.activateFacultadUseCase = activateFacultadUseCase;
         this.deactivateFacultadUseCase = deactivateFacultadUseCase;
         this.cambiarDecanoUseCase = cambiarDecanoUseCase;
+        this.findResourceVersionUseCase = findResourceVersionUseCase;
     }
 
     @PostMapping
@@ -65,22 +76,77 @@ public class FacultadController {
     @GetMapping
     @Operation(summary = "Obtener todas las facultades", description = "Obtiene una lista de todas las facultades")
     @ApiResponse(responseCode = "200", description = "Lista de facultades encontradas")
+    @ApiResponse(responseCode = "304", description = "La lista no cambió desde el ETag indicado")
     public ResponseEntity<List<FacultadSummaryResponse>> getAllFacultades(
-            @RequestParam(required = false, defaultValue = "false") Boolean activo) {
+            @RequestParam(required = false, defaultValue = "false") Boolean activo,
+            WebRequest request) {
         boolean incluirInactivas = activo == null ? false : !activo;
+
+        String etag = ETags.of(findResourceVersionUseCase.findFacultadesVersion(), incluirInactivas);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+
         FindAllFacultadesQuery query = new FindAllFacultadesQuery(incluirInactivas);
         List<FacultadSummaryResponse> facultades = findAllFacultadesUseCase.findAll(query);
-        return ResponseEntity.ok(facultades);
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(facultades);
+    }
+
+    @GetMapping(params = "ubicacion")
+    @Operation(summary = "Buscar facultades por ubicación",
+            description = "Obtiene las facultades de una ubicación (sin distinguir mayúsculas ni espacios sobrantes)")
+    @ApiResponse(responseCode = "200", description = "Lista de facultades de la ubicación")
+    @ApiResponse(responseCode = "304", description = "La lista no cambió desde el ETag indicado")
+    @ApiResponse(responseCode = "400", description = "Ubicación inválida")
+    public ResponseEntity<List<FacultadSummaryResponse>> getFacultadesByUbicacion(
+            @RequestParam String ubicacion,
+            @RequestParam(required = false, defaultValue = "false") Boolean activo,
+            WebRequest request) {
+        boolean incluirInactivas = activo == null ? false : !activo;
+
+        FindFacultadesByUbicacionQuery query = new FindFacultadesByUbicacionQuery(ubicacion, incluirInactivas);
+        List<FacultadSummaryResponse> facultades = findFacultadesByUbicacionUseCase.findByUbicacion(query);
+
+        // La lista sale de la caché local de la instancia: el ETag se calcula con lo que se sirve
+        // para que una instancia atrasada no asocie un ETag nuevo a datos viejos
+        String versiones = facultades.stream()
+                .map(f -> f.getId() + ":" + f.getVersion() + ":" + f.getCantidadCarreras())
+                .collect(Collectors.joining(","));
+        String etag = ETags.of(versiones, incluirInactivas, ubicacion);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(facultades);
     }
 
     @GetMapping("/{facultadId}")
     @Operation(summary = "Obtener facultad por ID", description = "Obtiene los detalles de una facultad específica")
     @ApiResponse(responseCode = "200", description = "Facultad encontrada")
+    @ApiResponse(responseCode = "304", description = "La facultad no cambió desde el ETag indicado")
     @ApiResponse(responseCode = "404", description = "Facultad no encontrada")
-    public ResponseEntity<FacultadResponse> getFacultadById(@PathVariable Long facultadId) {
+    public ResponseEntity<FacultadResponse> getFacultadById(@PathVariable Long facultadId, WebRequest request) {
+        // Si la facultad no existe no hay ETag y la consulta responde 404
+        Optional<String> etag = findResourceVersionUseCase.findFacultadVersion(facultadId).map(ETags::of);
+        if (etag.isPresent() && request.checkNotModified(etag.get())) {
+            return null;
+        }
+
         FindFacultadByIdQuery query = new FindFacultadByIdQuery(facultadId);
         FacultadResponse response = findFacultadByIdUseCase.findById(query);
-        return ResponseEntity.ok(response);
+
+        // El ETag sale del cuerpo servido, que puede venir de la caché local de la instancia:
+        // si esta va por detrás de la base, el cliente no guarda un ETag nuevo con datos viejos
+        return ResponseEntity.ok()
+                .eTag(ETags.of(String.valueOf(response.getVersion()), response.getCantidadCarreras()))
+                .cacheControl(CacheControl.noCache())
+                .body(response);
     }
 
     @GetMapping("/buscar")
@@ -98,6 +164,7 @@ public class FacultadController {
     @ApiResponse(responseCode = "200", description = "Facultad actualizada exitosamente")
     @ApiResponse(responseCode = "404", description = "Facultad no encontrada")
     @ApiResponse(responseCode = "400", description = "Datos de entrada inválidos")
+    @ApiResponse(responseCode = "409", description = "La facultad fue modificada por otra operación")
     public ResponseEntity<FacultadResponse> updateFacultad(
             @PathVariable Long facultadId,
             @Valid @RequestBody UpdateFacultadCommand command) {
@@ -105,7 +172,8 @@ public class FacultadController {
                 facultadId,
                 command.getNombre(),
                 command.getDescripcion(),
-                command.getUbicacion()
+                command.getUbicacion(),
+                command.getVersion()
         );
         FacultadResponse response = updateFacultadUseCase.update(updatedCommand);
         return ResponseEntity.ok(response);
@@ -115,12 +183,14 @@ public class FacultadController {
     @Operation(summary = "Cambiar decano", description = "Cambia el decano de una facultad")
     @ApiResponse(responseCode = "200", description = "Decano cambiado exitosamente")
     @ApiResponse(responseCode = "404", description = "Facultad no encontrada")
+    @ApiResponse(responseCode = "409", description = "La facultad fue modificada por otra operación")
     public ResponseEntity<FacultadResponse> cambiarDecano(
             @PathVariable Long facultadId,
             @Valid @RequestBody CambiarDecanoCommand command) {
         CambiarDecanoCommand updatedCommand = new CambiarDecanoCommand(
                 facultadId,
-                command.getNuevoDecano()
+                command.getNuevoDecano(),
+                command.getVersion()
         );
         FacultadResponse response = cambiarDecanoUseCase.cambiarDecano(updatedCommand);
         return ResponseEntity.ok(response);
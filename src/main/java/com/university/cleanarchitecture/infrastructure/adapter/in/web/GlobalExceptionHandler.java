@@ -1,12 +1,12 @@
 package com.university.cleanarchitecture.infrastructure.adapter.in.web;
 
 import com.university.cleanarchitecture.application.dto.response.ErrorResponse;
-import com.university.cleanarchitecture.domain.exception.CarreraNotFoundException;
-import com.university.cleanarchitecture.domain.exception.DomainException;
-import com.university.cleanarchitecture.domain.exception.FacultadNotFoundException;
-import com.university.cleanarchitecture.domain.exception.InvalidDurationException;
-import org.springframework.http.HttpStatus;
+import com.university.cleanarchitecture.infrastructure.error.ErrorCode;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Path;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -16,25 +16,18 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * El código y el estado HTTP de cada excepción salen de ErrorCode; aquí solo se decide el
+ * mensaje que se devuelve.
+ */
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
-    @ExceptionHandler(FacultadNotFoundException.class)
-    public ResponseEntity<ErrorResponse> handleFacultadNotFoundException(FacultadNotFoundException ex) {
-        ErrorResponse error = createErrorResponse("FACULTAD_NOT_FOUND", ex.getMessage());
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
-    }
-
-    @ExceptionHandler(CarreraNotFoundException.class)
-    public ResponseEntity<ErrorResponse> handleCarreraNotFoundException(CarreraNotFoundException ex) {
-        ErrorResponse error = createErrorResponse("CARRERA_NOT_FOUND", ex.getMessage());
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
-    }
-
-    @ExceptionHandler(InvalidDurationException.class)
-    public ResponseEntity<ErrorResponse> handleInvalidDurationException(InvalidDurationException ex) {
-        ErrorResponse error = createErrorResponse("INVALID_DURATION", ex.getMessage());
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    // Conflicto detectado por @Version al escribir, cuando otra transacción confirmó antes
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(ObjectOptimisticLockingFailureException ex) {
+        return respuesta(ErrorCode.VERSION_CONFLICT,
+                "El recurso fue modificado por otra operación; vuelva a leerlo e intente de nuevo");
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
@@ -47,48 +40,58 @@ public class GlobalExceptionHandler {
         });
 
         ErrorResponse error = createErrorResponse(
-                "VALIDATION_ERROR",
+                ErrorCode.VALIDATION_ERROR,
                 "Errores de validación en los datos de entrada"
         );
         error.setValidationErrors(errors);
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        return ResponseEntity.status(ErrorCode.VALIDATION_ERROR.getStatus()).body(error);
     }
 
-    @ExceptionHandler(DomainException.class)
-    public ResponseEntity<ErrorResponse> handleDomainException(DomainException ex) {
-        ErrorResponse error = createErrorResponse("DOMAIN_ERROR", ex.getMessage());
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
-    }
+    // Consultas validadas con @Valid en los puertos de entrada (@Validated en el servicio)
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<ErrorResponse> handleConstraintViolation(ConstraintViolationException ex) {
+        Map<String, String> errors = new HashMap<>();
+        for (ConstraintViolation<?> violation : ex.getConstraintViolations()) {
+            String fieldName = null;
+            for (Path.Node node : violation.getPropertyPath()) {
+                fieldName = node.getName();
+            }
+            errors.put(fieldName, violation.getMessage());
+        }
 
-    @ExceptionHandler(IllegalArgumentException.class)
-    public ResponseEntity<ErrorResponse> handleIllegalArgumentException(IllegalArgumentException ex) {
-        ErrorResponse error = createErrorResponse("INVALID_ARGUMENT", ex.getMessage());
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        ErrorResponse error = createErrorResponse(
+                ErrorCode.VALIDATION_ERROR,
+                "Errores de validación en los datos de entrada"
+        );
+        error.setValidationErrors(errors);
+        return ResponseEntity.status(ErrorCode.VALIDATION_ERROR.getStatus()).body(error);
     }
 
-    @ExceptionHandler(IllegalStateException.class)
-    public ResponseEntity<ErrorResponse> handleIllegalStateException(IllegalStateException ex) {
-        ErrorResponse error = createErrorResponse("INVALID_STATE", ex.getMessage());
-        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> handleException(Exception ex) {
+        ErrorCode code = ErrorCode.resolve(ex);
+        switch (code) {
+            case DATA_CONFLICT:
+                return respuesta(code,
+                        "La operación entra en conflicto con datos existentes, por ejemplo un nombre ya registrado");
+            case INTERNAL_ERROR:
+                // Log the exception for debugging
+                ex.printStackTrace();
+                return respuesta(code, "Error interno del servidor");
+            default:
+                return respuesta(code, ex.getMessage());
+        }
     }
 
-    @ExceptionHandler(Exception.class)
-    public ResponseEntity<ErrorResponse> handleGeneralException(Exception ex) {
-        ErrorResponse error = createErrorResponse(
-                "INTERNAL_ERROR",
-                "Error interno del servidor"
-        );
-        // Log the exception for debugging
-        ex.printStackTrace();
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
+    private ResponseEntity<ErrorResponse> respuesta(ErrorCode code, String message) {
+        return ResponseEntity.status(code.getStatus()).body(createErrorResponse(code, message));
     }
 
-    private ErrorResponse createErrorResponse(String code, String message) {
+    private ErrorResponse createErrorResponse(ErrorCode code, String message) {
         ErrorResponse error = new ErrorResponse();
-        error.setCode(code);
+        error.setCode(code.name());
         error.setMessage(message);
         error.setTimestamp(LocalDateTime.now());
         return error;
     }
 }
-
@@ -0,0 +1,225 @@
+package com.university.cleanarchitecture.infrastructure.adapter.out.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.university.cleanarchitecture.application.port.out.FacultadRepositoryPort;
+import com.university.cleanarchitecture.domain.model.Facultad;
+import com.university.cleanarchitecture.domain.model.valueobjects.FacultadId;
+import com.university.cleanarchitecture.domain.model.valueobjects.NombreAcademico;
+import com.university.cleanarchitecture.infrastructure.adapter.out.persistence.adapter.FacultadRepositoryAdapter;
+import com.university.cleanarchitecture.infrastructure.adapter.out.persistence.jpa.entity.FacultadJpaEntity;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Decorador con caché read-through (Caffeine) delante de FacultadRepositoryAdapter.
+ *
+ * Facultad es mutable, por lo que la caché guarda una instancia propia y entrega copias.
+ * Las entradas se invalidan al guardar o eliminar (aunque la escritura falle) y otra vez al
+ * terminar la transacción, para no conservar estado de una transacción que haga rollback.
+ */
+@Component
+@Primary
+public class CachingFacultadRepositoryAdapter implements FacultadRepositoryPort {
+
+    static final String CACHE_NAME = "facultades";
+    static final String UBICACION_CACHE_NAME = "facultades-por-ubicacion";
+
+    private final FacultadRepositoryAdapter delegate;
+    private final Cache<FacultadId, Facultad> cache;
+    // Ubicación normalizada → IDs; las facultades se resuelven con la caché por ID
+    private final Cache<String, List<FacultadId>> idsPorUbicacion;
+
+    public CachingFacultadRepositoryAdapter(
+            FacultadRepositoryAdapter delegate,
+            MeterRegistry meterRegistry,
+            @Value("${universidad.cache.facultades.maximum-size:500}") long maximumSize,
+            @Value("${universidad.cache.facultades.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.idsPorUbicacion = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, idsPorUbicacion, UBICACION_CACHE_NAME);
+    }
+
+    @Override
+    public Facultad save(Facultad facultad) {
+        // También si falla: un conflicto de versión indica que la copia en caché está atrasada,
+        // y la siguiente lectura debe ir a la base en lugar de repetir el 409
+        try {
+            return delegate.save(facultad);
+        } finally {
+            invalidate(facultad.getId());
+        }
+    }
+
+    @Override
+    public Optional<Facultad> findById(FacultadId id) {
+        Facultad cached = cache.get(id, key -> delegate.findById(key).orElse(null));
+        return Optional.ofNullable(cached).map(this::copy);
+    }
+
+    @Override
+    public Map<FacultadId, Facultad> findAllByIds(Set<FacultadId> ids) {
+        Map<FacultadId, Facultad> facultades = new HashMap<>();
+        Set<FacultadId> pendientes = new HashSet<>();
+
+        for (FacultadId id : ids) {
+            Facultad cached = cache.getIfPresent(id);
+            if (cached != null) {
+                facultades.put(id, copy(cached));
+            } else {
+                pendientes.add(id);
+            }
+        }
+
+        // Las lecturas en bloque no pueblan la caché: un put tras la consulta podría llegar
+        // después de la invalidación de una escritura concurrente y dejar la versión anterior
+        if (!pendientes.isEmpty()) {
+            facultades.putAll(delegate.findAllByIds(pendientes));
+        }
+        return facultades;
+    }
+
+    @Override
+    public Optional<Facultad> findByNombre(NombreAcademico nombre) {
+        return delegate.findByNombre(nombre);
+    }
+
+    @Override
+    public Map<FacultadId, String> findNombresByIds(Set<FacultadId> ids) {
+        Map<FacultadId, String> nombres = new HashMap<>();
+        Set<FacultadId> pendientes = new HashSet<>();
+
+        for (FacultadId id : ids) {
+            Facultad cached = cache.getIfPresent(id);
+            if (cached != null) {
+                nombres.put(id, cached.getNombre().getValue());
+            } else {
+                pendientes.add(id);
+            }
+        }
+
+        if (!pendientes.isEmpty()) {
+            nombres.putAll(delegate.findNombresByIds(pendientes));
+        }
+        return nombres;
+    }
+
+    @Override
+    public List<Facultad> findAllActive() {
+        return delegate.findAllActive();
+    }
+
+    @Override
+    public List<Facultad> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Facultad> findByUbicacion(String ubicacion) {
+        // Misma normalización que la consulta; las mayúsculas las resuelve lower() en PostgreSQL,
+        // cuyas reglas no coinciden con toLowerCase de Java para todos los caracteres
+        String clave = FacultadJpaEntity.normalizarUbicacion(ubicacion);
+        if (clave == null) {
+            return List.of();
+        }
+        // La carga va dentro de get(): una invalidación concurrente espera a que termine y la
+        // descarta, en lugar de ser pisada por un put posterior
+        AtomicReference<List<Facultad>> cargadas = new AtomicReference<>();
+        List<FacultadId> ids = idsPorUbicacion.get(clave, key -> {
+            List<Facultad> facultades = delegate.findByUbicacion(ubicacion);
+            cargadas.set(facultades);
+            return facultades.stream().map(Facultad::getId).toList();
+        });
+        if (cargadas.get() != null) {
+            return cargadas.get();
+        }
+
+        Map<FacultadId, Facultad> facultades = findAllByIds(new HashSet<>(ids));
+        List<Facultad> resultado = new ArrayList<>(ids.size());
+        for (FacultadId id : ids) {
+            Facultad facultad = facultades.get(id);
+            if (facultad != null) {
+                resultado.add(facultad);
+            }
+        }
+        return resultado;
+    }
+
+    @Override
+    public boolean existsByNombre(NombreAcademico nombre) {
+        return delegate.existsByNombre(nombre);
+    }
+
+    @Override
+    public boolean existsByNombreAndIdNot(NombreAcademico nombre, FacultadId id) {
+        return delegate.existsByNombreAndIdNot(nombre, id);
+    }
+
+    @Override
+    public int countCarrerasByFacultadId(FacultadId facultadId) {
+        return delegate.countCarrerasByFacultadId(facultadId);
+    }
+
+    @Override
+    public void deleteById(FacultadId id) {
+        try {
+            delegate.deleteById(id);
+        } finally {
+            invalidate(id);
+        }
+    }
+
+    // Cualquier escritura puede cambiar la ubicación o el estado: se vacía la caché por ubicación
+    private void invalidate(FacultadId id) {
+        cache.invalidate(id);
+        idsPorUbicacion.invalidateAll();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(id);
+                    idsPorUbicacion.invalidateAll();
+                }
+            });
+        }
+    }
+
+    private Facultad copy(Facultad facultad) {
+        return Facultad.rehidratar(
+                facultad.getId(),
+                facultad.getNombre(),
+                facultad.getDescripcion(),
+                facultad.getUbicacion(),
+                facultad.getDecano(),
+                facultad.getFechaRegistro(),
+                facultad.isActivo(),
+                facultad.getVersion()
+        );
+    }
+}
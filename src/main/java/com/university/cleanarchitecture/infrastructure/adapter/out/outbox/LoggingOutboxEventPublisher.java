@@ -0,0 +1,24 @@
+package com.university.cleanarchitecture.infrastructure.adapter.out.outbox;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * Publicador por defecto: escribe cada evento en el logger universidad.outbox (un fichero
+ * propio en logback-spring.xml). Se reemplaza declarando otro bean OutboxEventPublisher.
+ */
+public class LoggingOutboxEventPublisher implements OutboxEventPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger("universidad.outbox");
+
+    @Override
+    public void publish(List<OutboxMessage> mensajes) {
+        for (OutboxMessage mensaje : mensajes) {
+            log.info("{\"eventId\":\"{}\",\"tipo\":\"{}\",\"agregado\":\"{}\",\"agregadoId\":{},\"payload\":{}}",
+                    mensaje.getEventId(), mensaje.getTipo(), mensaje.getAgregado(),
+                    mensaje.getAgregadoId(), mensaje.getPayload());
+        }
+    }
+}
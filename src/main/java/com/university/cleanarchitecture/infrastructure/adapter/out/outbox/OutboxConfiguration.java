@@ -0,0 +1,17 @@
+package com.university.cleanarchitecture.infrastructure.adapter.out.outbox;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class OutboxConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean(OutboxEventPublisher.class)
+    public OutboxEventPublisher outboxEventPublisher() {
+        return new LoggingOutboxEventPublisher();
+    }
+}
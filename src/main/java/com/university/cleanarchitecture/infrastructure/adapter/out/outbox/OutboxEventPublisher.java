@@ -0,0 +1,11 @@
+package com.university.cleanarchitecture.infrastructure.adapter.out.outbox;
+
+import java.util.List;
+
+/**
+ * Destino de los eventos del outbox (broker, webhook, log...). Si lanza una excepción el lote
+ * queda pendiente y se reintenta en la siguiente pasada del relay.
+ */
+public interface OutboxEventPublisher {
+    void publish(List<OutboxMessage> mensajes);
+}
@@ -0,0 +1,35 @@
+package com.university.cleanarchitecture.infrastructure.adapter.out.outbox;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Evento leído de outbox_eventos, listo para enviarse. eventId permite a los consumidores
+ * descartar duplicados: la entrega es al menos una vez.
+ */
+public class OutboxMessage {
+
+    private final UUID eventId;
+    private final String agregado;
+    private final Long agregadoId;
+    private final String tipo;
+    private final String payload;
+    private final LocalDateTime ocurridoEn;
+
+    public OutboxMessage(UUID eventId, String agregado, Long agregadoId, String tipo,
+                         String payload, LocalDateTime ocurridoEn) {
+        this.eventId = eventId;
+        this.agregado = agregado;
+        this.agregadoId = agregadoId;
+        this.tipo = tipo;
+        this.payload = payload;
+        this.ocurridoEn = ocurridoEn;
+    }
+
+    public UUID getEventId() { return eventId; }
+    public String getAgregado() { return agregado; }
+    public Long getAgregadoId() { return agregadoId; }
+    public String getTipo() { return tipo; }
+    public String getPayload() { return payload; }
+    public LocalDateTime getOcurridoEn() { return ocurridoEn; }
+}
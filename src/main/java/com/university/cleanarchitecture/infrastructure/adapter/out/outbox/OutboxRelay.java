@@ -0,0 +1,136 @@
+package com.university.cleanarchitecture.infrastructure.adapter.out.outbox;
+
+import com.university.cleanarchitecture.infrastructure.adapter.out.persistence.jpa.entity.OutboxEventJpaEntity;
+import com.university.cleanarchitecture.infrastructure.adapter.out.persistence.jpa.repository.OutboxEventJpaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Publica los eventos pendientes de outbox_eventos en orden de inserción.
+ *
+ * Cada lote se bloquea con FOR UPDATE SKIP LOCKED, se publica y se marca como publicado en la
+ * misma transacción: si la instancia cae a mitad, el lote vuelve a quedar pendiente (entrega al
+ * menos una vez). Si el publicador rechaza el lote, sus eventos se reintentan uno a uno para
+ * que solo el que falla sume un intento; al llegar a universidad.outbox.max-intentos queda
+ * aparcado (publicado_en nulo, fuera de lockPendientes) y el resto sigue saliendo.
+ */
+@Component
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxEventJpaRepository jpaRepository;
+    private final OutboxEventPublisher publisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxIntentos;
+    private final Duration retention;
+    private final Counter aparcados;
+
+    public OutboxRelay(OutboxEventJpaRepository jpaRepository,
+                       OutboxEventPublisher publisher,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry,
+                       @Value("${universidad.outbox.batch-size:100}") int batchSize,
+                       @Value("${universidad.outbox.max-intentos:5}") int maxIntentos,
+                       @Value("${universidad.outbox.retention:7d}") Duration retention) {
+        this.jpaRepository = jpaRepository;
+        this.publisher = publisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = batchSize;
+        this.maxIntentos = maxIntentos;
+        this.retention = retention;
+        this.aparcados = Counter.builder("universidad.outbox.parked")
+                .description("Eventos del outbox que agotaron sus intentos de publicación")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${universidad.outbox.relay-interval-ms:1000}")
+    public void relay() {
+        // Mientras los lotes salgan llenos quedan eventos atrasados: se vacía sin esperar al siguiente ciclo
+        int publicados;
+        do {
+            publicados = publicarLote();
+        } while (publicados == batchSize);
+    }
+
+    @Scheduled(cron = "${universidad.outbox.cleanup-cron:0 0 3 * * *}")
+    public void limpiarPublicados() {
+        Integer eliminados = transactionTemplate.execute(status ->
+                jpaRepository.deletePublicadosAntesDe(LocalDateTime.now().minus(retention)));
+        if (eliminados != null && eliminados > 0) {
+            log.info("Eliminados {} eventos publicados del outbox", eliminados);
+        }
+    }
+
+    // Número de eventos publicados; 0 si no había pendientes o la publicación del lote falló
+    int publicarLote() {
+        List<Long> lote = new ArrayList<>();
+        Integer publicados;
+        try {
+            publicados = transactionTemplate.execute(status -> {
+                List<OutboxEventJpaEntity> pendientes = jpaRepository.lockPendientes(batchSize, maxIntentos);
+                if (pendientes.isEmpty()) {
+                    return 0;
+                }
+                pendientes.forEach(p -> lote.add(p.getId()));
+                publisher.publish(pendientes.stream()
+                        .map(this::toMessage)
+                        .collect(Collectors.toList()));
+                jpaRepository.marcarPublicados(lote, LocalDateTime.now());
+                return pendientes.size();
+            });
+        } catch (RuntimeException e) {
+            log.warn("No se pudo publicar el lote del outbox ({} eventos); se reintentan uno a uno",
+                    lote.size(), e);
+            lote.forEach(this::publicarUno);
+            return 0;
+        }
+        return publicados != null ? publicados : 0;
+    }
+
+    // Aísla el evento que el publicador rechaza: solo ese suma intentos
+    private void publicarUno(Long id) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jpaRepository.lockPendiente(id, maxIntentos).ifPresent(evento -> {
+                        publisher.publish(List.of(toMessage(evento)));
+                        jpaRepository.marcarPublicados(List.of(id), LocalDateTime.now());
+                    }));
+        } catch (RuntimeException e) {
+            transactionTemplate.executeWithoutResult(status ->
+                    jpaRepository.lockPendiente(id, maxIntentos).ifPresent(evento -> {
+                        jpaRepository.incrementarIntentos(List.of(id));
+                        int intentos = evento.getIntentos() + 1;
+                        if (intentos >= maxIntentos) {
+                            aparcados.increment();
+                            log.error("Evento {} ({} {}) aparcado tras {} intentos fallidos",
+                                    evento.getEventId(), evento.getTipo(), evento.getAgregadoId(), intentos, e);
+                        } else {
+                            log.warn("Evento {} rechazado por el publicador (intento {} de {})",
+                                    evento.getEventId(), intentos, maxIntentos);
+                        }
+                    }));
+        }
+    }
+
+    private OutboxMessage toMessage(OutboxEventJpaEntity entity) {
+        return new OutboxMessage(entity.getEventId(), entity.getAgregado(), entity.getAgregadoId(),
+                entity.getTipo(), entity.getPayload(), entity.getOcurridoEn());
+    }
+}
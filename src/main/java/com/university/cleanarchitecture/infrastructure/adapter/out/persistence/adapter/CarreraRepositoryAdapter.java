@@ -8,28 +8,89 @@ import com.university.cleanarchitecture.domain.model.valueobjects.NombreAcademic
 import com.university.cleanarchitecture.infrastructure.adapter.out.persistence.jpa.entity.CarreraJpaEntity;
 import com.university.cleanarchitecture.infrastructure.adapter.out.persistence.jpa.repository.CarreraJpaRepository;
 import com.university.cleanarchitecture.infrastructure.adapter.out.persistence.mapper.CarreraJpaMapper;
+import jakarta.persistence.EntityManager;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Component
 public class CarreraRepositoryAdapter implements CarreraRepositoryPort {
 
+    private static final Pattern TERMINO_SEPARADOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int MAX_TERMINOS_BUSQUEDA = 8;
+
     private final CarreraJpaRepository jpaRepository;
     private final CarreraJpaMapper mapper;
+    private final EntityManager entityManager;
+    private final NombreUniquenessIndex nombreIndex = new NombreUniquenessIndex();
 
-    public CarreraRepositoryAdapter(CarreraJpaRepository jpaRepository, CarreraJpaMapper mapper) {
+    public CarreraRepositoryAdapter(CarreraJpaRepository jpaRepository, CarreraJpaMapper mapper,
+                                    EntityManager entityManager) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.entityManager = entityManager;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void cargarIndiceNombres() {
+        Map<Long, String> nombres = new HashMap<>();
+        for (Object[] fila : jpaRepository.findAllIdsAndNombres()) {
+            nombres.put((Long) fila[0], (String) fila[1]);
+        }
+        nombreIndex.cargar(nombres);
     }
 
     @Override
     public Carrera save(Carrera carrera) {
-        CarreraJpaEntity entity = mapper.toJpaEntity(carrera);
-        CarreraJpaEntity savedEntity = jpaRepository.save(entity);
-        return mapper.toDomainModel(savedEntity);
+        CarreraJpaEntity entity;
+        if (carrera.getVersion() == null) {
+            // Nueva: isNew() hace que Spring Data use persist en lugar de merge
+            entity = jpaRepository.save(mapper.toJpaEntity(carrera));
+        } else {
+            // Existente: normalmente ya está en el contexto de persistencia porque el caso de
+            // uso la cargó en esta transacción, así que findById no consulta la base de datos
+            entity = jpaRepository.findById(carrera.getId().getValue())
+                    .filter(managed -> Objects.equals(managed.getVersion(), carrera.getVersion()))
+                    .orElseThrow(() -> new ObjectOptimisticLockingFailureException(
+                            CarreraJpaEntity.class, carrera.getId().getValue()));
+            mapper.updateJpaEntity(carrera, entity);
+        }
+        // flush para detectar conflictos de versión aquí y devolver la versión incrementada
+        jpaRepository.flush();
+        nombreIndex.registrarTrasCommit(entity.getId(), entity.getNombre());
+        return mapper.toDomainModel(entity);
+    }
+
+    /**
+     * Inserta carreras nuevas con persist (sin merge) para que Hibernate las agrupe en
+     * lotes JDBC según hibernate.jdbc.batch_size.
+     */
+    @Override
+    public List<Carrera> insertAll(List<Carrera> carreras) {
+        List<CarreraJpaEntity> entities = carreras.stream()
+                .map(mapper::toJpaEntity)
+                .collect(Collectors.toList());
+
+        entities.forEach(entityManager::persist);
+        // A través del repositorio para traducir una violación de UNIQUE a DataIntegrityViolationException
+        jpaRepository.flush();
+        entities.forEach(entity -> nombreIndex.registrarTrasCommit(entity.getId(), entity.getNombre()));
+
+        return entities.stream()
+                .map(mapper::toDomainModel)
+                .collect(Collectors.toList());
     }
 
     @Override
@@ -76,6 +137,44 @@ public class CarreraRepositoryAdapter implements CarreraRepositoryPort {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Carrera> search(String texto, boolean soloActivas, long offset, int limit) {
+        String consulta = toPrefixTsQuery(texto);
+        if (consulta.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return jpaRepository.search(consulta, soloActivas, offset, limit)
+                .stream()
+                .map(mapper::toDomainModel)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public long countSearch(String texto, boolean soloActivas) {
+        String consulta = toPrefixTsQuery(texto);
+        return consulta.isEmpty() ? 0 : jpaRepository.countSearch(consulta, soloActivas);
+    }
+
+    @Override
+    public List<Carrera> findByTituloOtorgadoContaining(String tituloOtorgado) {
+        return jpaRepository.findByTituloOtorgadoContaining(tituloOtorgado)
+                .stream()
+                .map(mapper::toDomainModel)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Convierte el texto del usuario en una tsquery de prefijos ("ingen sist" → "ingen:* & sist:*"),
+     * descartando los operadores de tsquery para que ninguna entrada produzca un error de sintaxis.
+     */
+    private String toPrefixTsQuery(String texto) {
+        return Arrays.stream(TERMINO_SEPARADOR.split(texto.strip()))
+                .filter(termino -> !termino.isEmpty())
+                .limit(MAX_TERMINOS_BUSQUEDA)
+                .map(termino -> termino + ":*")
+                .collect(Collectors.joining(" & "));
+    }
+
     @Override
     public List<Carrera> findByDuracionSemestres(int semestres) {
         return jpaRepository.findByDuracionSemestres(semestres)
@@ -94,11 +193,38 @@ public class CarreraRepositoryAdapter implements CarreraRepositoryPort {
 
     @Override
     public boolean existsByNombre(NombreAcademico nombre) {
+        if (!nombreIndex.puedeExistir(nombre.getValue())) {
+            return false;
+        }
         return jpaRepository.existsByNombre(nombre.getValue());
     }
 
+    @Override
+    public Set<NombreAcademico> findExistingNombres(Set<NombreAcademico> nombres) {
+        if (nombres.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        // Solo se consultan los nombres que el índice no descarta
+        List<String> valores = nombres.stream()
+                .map(NombreAcademico::getValue)
+                .filter(nombreIndex::puedeExistir)
+                .collect(Collectors.toList());
+        if (valores.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        return jpaRepository.findNombresIn(valores)
+                .stream()
+                .map(NombreAcademico::of)
+                .collect(Collectors.toSet());
+    }
+
     @Override
     public boolean existsByNombreAndIdNot(NombreAcademico nombre, CarreraId excludeId) {
+        if (!nombreIndex.puedeExistirEnOtro(nombre.getValue(), excludeId.getValue())) {
+            return false;
+        }
         return jpaRepository.existsByNombreAndIdNot(nombre.getValue(), excludeId.getValue());
     }
 
@@ -107,8 +233,26 @@ public class CarreraRepositoryAdapter implements CarreraRepositoryPort {
         return (int) jpaRepository.countActiveByFacultadId(facultadId.getValue());
     }
 
+    @Override
+    public Map<FacultadId, Integer> countActiveByFacultadIds(Set<FacultadId> facultadIds) {
+        if (facultadIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        List<Long> rawIds = facultadIds.stream()
+                .map(FacultadId::getValue)
+                .collect(Collectors.toList());
+
+        Map<FacultadId, Integer> conteos = new HashMap<>();
+        for (Object[] row : jpaRepository.countActiveGroupedByFacultadId(rawIds)) {
+            conteos.put(FacultadId.of((Long) row[0]), ((Number) row[1]).intValue());
+        }
+        return conteos;
+    }
+
     @Override
     public void deleteById(CarreraId id) {
         jpaRepository.deleteById(id.getValue());
+        nombreIndex.eliminarTrasCommit(id.getValue());
     }
 }
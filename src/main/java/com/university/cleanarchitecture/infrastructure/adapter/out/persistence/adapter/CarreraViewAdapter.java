@@ -0,0 +1,178 @@
+package com.university.cleanarchitecture.infrastructure.adapter.out.persistence.adapter;
+
+import com.university.cleanarchitecture.application.dto.response.CarreraResponse;
+import com.university.cleanarchitecture.application.dto.response.CarreraSummaryResponse;
+import com.university.cleanarchitecture.application.mapper.CarreraMapper;
+import com.university.cleanarchitecture.application.port.out.CarreraSearchCriteria;
+import com.university.cleanarchitecture.application.port.out.CarreraViewPort;
+import com.university.cleanarchitecture.domain.model.valueobjects.CarreraId;
+import com.university.cleanarchitecture.domain.model.valueobjects.Duracion;
+import com.university.cleanarchitecture.domain.model.valueobjects.FacultadId;
+import com.university.cleanarchitecture.infrastructure.adapter.out.persistence.jpa.entity.CarreraViewJpaEntity;
+import com.university.cleanarchitecture.infrastructure.adapter.out.persistence.jpa.repository.CarreraViewJpaRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Consultas de carreras sobre carrera_view: una sola tabla, sin enriquecer con la facultad.
+ */
+@Component
+public class CarreraViewAdapter implements CarreraViewPort {
+
+    private final CarreraViewJpaRepository jpaRepository;
+    private final CarreraMapper carreraMapper;
+    private final EntityManager entityManager;
+
+    public CarreraViewAdapter(CarreraViewJpaRepository jpaRepository, CarreraMapper carreraMapper,
+                              EntityManager entityManager) {
+        this.jpaRepository = jpaRepository;
+        this.carreraMapper = carreraMapper;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Optional<CarreraResponse> findById(CarreraId id) {
+        return jpaRepository.findById(id.getValue()).map(this::toResponse);
+    }
+
+    @Override
+    public List<CarreraSummaryResponse> findByFacultadId(FacultadId facultadId, boolean soloActivas) {
+        return jpaRepository.findByFacultadId(facultadId.getValue(), soloActivas)
+                .stream()
+                .map(this::toSummaryResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<CarreraSummaryResponse> findByDuracionBetween(int minSemestres, int maxSemestres,
+                                                              boolean soloActivas) {
+        return jpaRepository.findByDuracionBetween(minSemestres, maxSemestres, soloActivas)
+                .stream()
+                .map(this::toSummaryResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<CarreraSummaryResponse> findPageAfter(CarreraSearchCriteria criteria, CarreraId afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<CarreraViewJpaEntity> query = cb.createQuery(CarreraViewJpaEntity.class);
+        Root<CarreraViewJpaEntity> root = query.from(CarreraViewJpaEntity.class);
+
+        List<Predicate> predicates = toPredicates(criteria, cb, root);
+        if (afterId != null) {
+            predicates.add(cb.greaterThan(root.<Long>get("id"), afterId.getValue()));
+        }
+        query.where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList()
+                .stream()
+                .map(this::toSummaryResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<CarreraSummaryResponse> findPageByOffset(CarreraSearchCriteria criteria, long offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<CarreraViewJpaEntity> query = cb.createQuery(CarreraViewJpaEntity.class);
+        Root<CarreraViewJpaEntity> root = query.from(CarreraViewJpaEntity.class);
+
+        query.where(toPredicates(criteria, cb, root).toArray(new Predicate[0]))
+                .orderBy(cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList()
+                .stream()
+                .map(this::toSummaryResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public long count(CarreraSearchCriteria criteria) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<CarreraViewJpaEntity> root = query.from(CarreraViewJpaEntity.class);
+
+        query.select(cb.count(root))
+                .where(toPredicates(criteria, cb, root).toArray(new Predicate[0]));
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    /**
+     * Recorre la tabla con un cursor del servidor; cada fila se desvincula del contexto de
+     * persistencia tras mapearla para que la memoria no crezca con el tamaño de la tabla.
+     */
+    @Override
+    public Stream<CarreraResponse> streamAll() {
+        return jpaRepository.streamAllOrderById()
+                .map(entity -> {
+                    CarreraResponse response = toResponse(entity);
+                    entityManager.detach(entity);
+                    return response;
+                });
+    }
+
+    private List<Predicate> toPredicates(CarreraSearchCriteria criteria, CriteriaBuilder cb,
+                                         Root<CarreraViewJpaEntity> root) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (criteria.getFacultadId() != null) {
+            predicates.add(cb.equal(root.get("facultadId"), criteria.getFacultadId().getValue()));
+        }
+        if (criteria.getMinSemestres() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(root.<Integer>get("duracionSemestres"), criteria.getMinSemestres()));
+        }
+        if (criteria.getMaxSemestres() != null) {
+            predicates.add(cb.lessThanOrEqualTo(root.<Integer>get("duracionSemestres"), criteria.getMaxSemestres()));
+        }
+        if (criteria.isSoloActivas()) {
+            predicates.add(cb.isTrue(root.<Boolean>get("activo")));
+        }
+        return predicates;
+    }
+
+    // Años y clasificación se derivan de Duracion, igual que al responder desde el dominio
+    private CarreraResponse toResponse(CarreraViewJpaEntity entity) {
+        Duracion duracion = Duracion.of(entity.getDuracionSemestres());
+        CarreraResponse response = new CarreraResponse();
+        response.setId(entity.getId());
+        response.setNombre(entity.getNombre());
+        response.setDescripcion(entity.getDescripcion());
+        response.setDuracionSemestres(entity.getDuracionSemestres());
+        response.setDuracionAnios(duracion.getAnios());
+        response.setTituloOtorgado(entity.getTituloOtorgado());
+        response.setFechaRegistro(entity.getFechaRegistro());
+        response.setActivo(entity.getActivo());
+        response.setFacultadId(entity.getFacultadId());
+        response.setFacultadNombre(entity.getFacultadNombre());
+        response.setClasificacion(carreraMapper.determinarClasificacion(duracion));
+        response.setVersion(entity.getVersion());
+        return response;
+    }
+
+    private CarreraSummaryResponse toSummaryResponse(CarreraViewJpaEntity entity) {
+        CarreraSummaryResponse response = new CarreraSummaryResponse();
+        response.setId(entity.getId());
+        response.setNombre(entity.getNombre());
+        response.setDuracionSemestres(entity.getDuracionSemestres());
+        response.setTituloOtorgado(entity.getTituloOtorgado());
+        response.setActivo(entity.getActivo());
+        response.setFacultadId(entity.getFacultadId());
+        response.setFacultadNombre(entity.getFacultadNombre());
+        return response;
+    }
+}
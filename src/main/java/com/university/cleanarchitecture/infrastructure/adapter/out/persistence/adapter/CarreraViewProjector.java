@@ -0,0 +1,84 @@
+package com.university.cleanarchitecture.infrastructure.adapter.out.persistence.adapter;
+
+import com.university.cleanarchitecture.application.port.out.CarreraViewProjectionPort;
+import com.university.cleanarchitecture.domain.event.CarreraEvent;
+import com.university.cleanarchitecture.domain.event.DomainEvent;
+import com.university.cleanarchitecture.domain.event.FacultadActualizada;
+import com.university.cleanarchitecture.infrastructure.adapter.out.persistence.jpa.repository.CarreraViewJpaRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Mantiene carrera_view a partir de los eventos de dominio que le pasan los servicios, dentro
+ * de la misma transacción que el cambio: las lecturas posteriores al commit ya ven la
+ * proyección actualizada.
+ *
+ * Los eventos de una transacción se acumulan y se aplican justo antes del commit con una
+ * sentencia por tipo, de modo que un lote de N carreras cuesta un único INSERT ... SELECT.
+ * Las filas se recalculan a partir de las tablas, no del contenido de los eventos.
+ */
+@Component
+public class CarreraViewProjector implements CarreraViewProjectionPort {
+
+    private final CarreraViewJpaRepository jpaRepository;
+
+    public CarreraViewProjector(CarreraViewJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    public void proyectar(List<DomainEvent> eventos) {
+        for (DomainEvent evento : eventos) {
+            if (evento instanceof CarreraEvent) {
+                pendientes().carreraIds.add(evento.getAgregadoId());
+            } else if (evento instanceof FacultadActualizada) {
+                // El nombre de la facultad está copiado en cada fila de sus carreras
+                pendientes().facultadIds.add(evento.getAgregadoId());
+            }
+        }
+    }
+
+    private Pendientes pendientes() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("carrera_view solo se actualiza dentro de una transacción");
+        }
+        Pendientes pendientes = (Pendientes) TransactionSynchronizationManager.getResource(this);
+        if (pendientes != null) {
+            return pendientes;
+        }
+
+        Pendientes nuevos = new Pendientes();
+        TransactionSynchronizationManager.bindResource(this, nuevos);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                aplicar(nuevos);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(CarreraViewProjector.this);
+            }
+        });
+        return nuevos;
+    }
+
+    private void aplicar(Pendientes pendientes) {
+        if (!pendientes.facultadIds.isEmpty()) {
+            jpaRepository.refreshFacultadNombre(pendientes.facultadIds);
+        }
+        if (!pendientes.carreraIds.isEmpty()) {
+            jpaRepository.upsertCarreras(pendientes.carreraIds);
+        }
+    }
+
+    private static final class Pendientes {
+        private final Set<Long> carreraIds = new LinkedHashSet<>();
+        private final Set<Long> facultadIds = new LinkedHashSet<>();
+    }
+}
@@ -0,0 +1,55 @@
+package com.university.cleanarchitecture.infrastructure.adapter.out.persistence.adapter;
+
+import com.university.cleanarchitecture.application.port.out.ChangeFeedEntry;
+import com.university.cleanarchitecture.application.port.out.ChangeFeedPort;
+import com.university.cleanarchitecture.application.port.out.ChangeFeedPosition;
+import com.university.cleanarchitecture.domain.model.Carrera;
+import com.university.cleanarchitecture.domain.model.Facultad;
+import com.university.cleanarchitecture.infrastructure.adapter.out.persistence.jpa.repository.CarreraJpaRepository;
+import com.university.cleanarchitecture.infrastructure.adapter.out.persistence.jpa.repository.FacultadJpaRepository;
+import com.university.cleanarchitecture.infrastructure.adapter.out.persistence.mapper.CarreraJpaMapper;
+import com.university.cleanarchitecture.infrastructure.adapter.out.persistence.mapper.FacultadJpaMapper;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Component
+public class ChangeFeedAdapter implements ChangeFeedPort {
+
+    private final FacultadJpaRepository facultadJpaRepository;
+    private final CarreraJpaRepository carreraJpaRepository;
+    private final FacultadJpaMapper facultadMapper;
+    private final CarreraJpaMapper carreraMapper;
+
+    public ChangeFeedAdapter(FacultadJpaRepository facultadJpaRepository,
+                             CarreraJpaRepository carreraJpaRepository,
+                             FacultadJpaMapper facultadMapper,
+                             CarreraJpaMapper carreraMapper) {
+        this.facultadJpaRepository = facultadJpaRepository;
+        this.carreraJpaRepository = carreraJpaRepository;
+        this.facultadMapper = facultadMapper;
+        this.carreraMapper = carreraMapper;
+    }
+
+    @Override
+    public List<ChangeFeedEntry<Facultad>> findFacultadesChangedAfter(ChangeFeedPosition after,
+                                                                      LocalDateTime hasta, int limit) {
+        return facultadJpaRepository.findChangedAfter(after.getModificadoEn(), after.getId(), hasta, limit)
+                .stream()
+                .map(entity -> new ChangeFeedEntry<>(facultadMapper.toDomainModel(entity),
+                        new ChangeFeedPosition(entity.getUpdatedAt(), entity.getId())))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<ChangeFeedEntry<Carrera>> findCarrerasChangedAfter(ChangeFeedPosition after,
+                                                                   LocalDateTime hasta, int limit) {
+        return carreraJpaRepository.findChangedAfter(after.getModificadoEn(), after.getId(), hasta, limit)
+                .stream()
+                .map(entity -> new ChangeFeedEntry<>(carreraMapper.toDomainModel(entity),
+                        new ChangeFeedPosition(entity.getUpdatedAt(), entity.getId())))
+                .collect(Collectors.toList());
+    }
+}
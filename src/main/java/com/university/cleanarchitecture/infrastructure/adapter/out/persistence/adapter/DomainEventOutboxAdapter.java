@@ -0,0 +1,65 @@
+package com.university.cleanarchitecture.infrastructure.adapter.out.persistence.adapter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.university.cleanarchitecture.application.port.out.DomainEventOutboxPort;
+import com.university.cleanarchitecture.domain.event.DomainEvent;
+import com.university.cleanarchitecture.infrastructure.adapter.out.persistence.jpa.entity.OutboxEventJpaEntity;
+import com.university.cleanarchitecture.infrastructure.adapter.out.persistence.jpa.repository.OutboxEventJpaRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Inserta los eventos en outbox_eventos dentro de la transacción del caso de uso; OutboxRelay
+ * los publica cuando la transacción ya está confirmada.
+ *
+ * También los publica en el bus de eventos de Spring para los consumidores del mismo proceso,
+ * que los reciben con @TransactionalEventListener(AFTER_COMMIT): nunca ven un cambio revertido.
+ */
+@Component
+public class DomainEventOutboxAdapter implements DomainEventOutboxPort {
+
+    private final OutboxEventJpaRepository jpaRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public DomainEventOutboxAdapter(OutboxEventJpaRepository jpaRepository, ObjectMapper objectMapper,
+                                    ApplicationEventPublisher eventPublisher) {
+        this.jpaRepository = jpaRepository;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void append(List<DomainEvent> eventos) {
+        if (eventos.isEmpty()) {
+            return;
+        }
+        jpaRepository.saveAll(eventos.stream()
+                .map(this::toJpaEntity)
+                .collect(Collectors.toList()));
+        eventos.forEach(eventPublisher::publishEvent);
+    }
+
+    private OutboxEventJpaEntity toJpaEntity(DomainEvent evento) {
+        OutboxEventJpaEntity entity = new OutboxEventJpaEntity();
+        entity.setEventId(evento.getEventId());
+        entity.setAgregado(evento.getAgregado());
+        entity.setAgregadoId(evento.getAgregadoId());
+        entity.setTipo(evento.getTipo());
+        entity.setPayload(toJson(evento));
+        entity.setOcurridoEn(evento.getOcurridoEn());
+        return entity;
+    }
+
+    private String toJson(DomainEvent evento) {
+        try {
+            return objectMapper.writeValueAsString(evento);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar el evento " + evento, e);
+        }
+    }
+}
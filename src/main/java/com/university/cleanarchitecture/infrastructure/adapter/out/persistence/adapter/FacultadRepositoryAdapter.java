@@ -7,10 +7,18 @@ import com.university.cleanarchitecture.domain.model.valueobjects.NombreAcademic
 import com.university.cleanarchitecture.infrastructure.adapter.out.persistence.jpa.entity.FacultadJpaEntity;
 import com.university.cleanarchitecture.infrastructure.adapter.out.persistence.jpa.repository.FacultadJpaRepository;
 import com.university.cleanarchitecture.infrastructure.adapter.out.persistence.mapper.FacultadJpaMapper;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Component
@@ -18,6 +26,7 @@ public class FacultadRepositoryAdapter implements FacultadRepositoryPort {
 
     private final FacultadJpaRepository jpaRepository;
     private final FacultadJpaMapper mapper;
+    private final NombreUniquenessIndex nombreIndex = new NombreUniquenessIndex();
 
     public FacultadRepositoryAdapter(FacultadJpaRepository jpaRepository,
                                      FacultadJpaMapper mapper) {
@@ -25,11 +34,34 @@ public class FacultadRepositoryAdapter implements FacultadRepositoryPort {
         this.mapper = mapper;
     }
 
+    @EventListener(ApplicationReadyEvent.class)
+    public void cargarIndiceNombres() {
+        Map<Long, String> nombres = new HashMap<>();
+        for (Object[] fila : jpaRepository.findAllIdsAndNombres()) {
+            nombres.put((Long) fila[0], (String) fila[1]);
+        }
+        nombreIndex.cargar(nombres);
+    }
+
     @Override
     public Facultad save(Facultad facultad) {
-        FacultadJpaEntity entity = mapper.toJpaEntity(facultad);
-        FacultadJpaEntity savedEntity = jpaRepository.save(entity);
-        return mapper.toDomainModel(savedEntity);
+        FacultadJpaEntity entity;
+        if (facultad.getVersion() == null) {
+            // Nueva: isNew() hace que Spring Data use persist en lugar de merge
+            entity = jpaRepository.save(mapper.toJpaEntity(facultad));
+        } else {
+            // Existente: normalmente ya está en el contexto de persistencia porque el caso de
+            // uso la cargó en esta transacción, así que findById no consulta la base de datos
+            entity = jpaRepository.findById(facultad.getId().getValue())
+                    .filter(managed -> Objects.equals(managed.getVersion(), facultad.getVersion()))
+                    .orElseThrow(() -> new ObjectOptimisticLockingFailureException(
+                            FacultadJpaEntity.class, facultad.getId().getValue()));
+            mapper.updateJpaEntity(facultad, entity);
+        }
+        // flush para detectar conflictos de versión aquí y devolver la versión incrementada
+        jpaRepository.flush();
+        nombreIndex.registrarTrasCommit(entity.getId(), entity.getNombre());
+        return mapper.toDomainModel(entity);
     }
 
     @Override
@@ -38,12 +70,45 @@ public class FacultadRepositoryAdapter implements FacultadRepositoryPort {
                 .map(mapper::toDomainModel);
     }
 
+    @Override
+    public Map<FacultadId, Facultad> findAllByIds(Set<FacultadId> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        List<Long> rawIds = ids.stream()
+                .map(FacultadId::getValue)
+                .collect(Collectors.toList());
+
+        return jpaRepository.findAllById(rawIds)
+                .stream()
+                .map(mapper::toDomainModel)
+                .collect(Collectors.toMap(Facultad::getId, facultad -> facultad));
+    }
+
     @Override
     public Optional<Facultad> findByNombre(NombreAcademico nombre) {
         return jpaRepository.findByNombre(nombre.getValue())
                 .map(mapper::toDomainModel);
     }
 
+    @Override
+    public Map<FacultadId, String> findNombresByIds(Set<FacultadId> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        List<Long> rawIds = ids.stream()
+                .map(FacultadId::getValue)
+                .collect(Collectors.toList());
+
+        Map<FacultadId, String> nombres = new HashMap<>();
+        for (Object[] row : jpaRepository.findNombresByIdIn(rawIds)) {
+            nombres.put(FacultadId.of((Long) row[0]), (String) row[1]);
+        }
+        return nombres;
+    }
+
     @Override
     public List<Facultad> findAllActive() {
         return jpaRepository.findByActivoTrue()
@@ -60,13 +125,31 @@ public class FacultadRepositoryAdapter implements FacultadRepositoryPort {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Facultad> findByUbicacion(String ubicacion) {
+        String normalizada = FacultadJpaEntity.normalizarUbicacion(ubicacion);
+        if (normalizada == null) {
+            return Collections.emptyList();
+        }
+        return jpaRepository.findByUbicacionNormalizada(normalizada)
+                .stream()
+                .map(mapper::toDomainModel)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public boolean existsByNombre(NombreAcademico nombre) {
+        if (!nombreIndex.puedeExistir(nombre.getValue())) {
+            return false;
+        }
         return jpaRepository.existsByNombre(nombre.getValue());
     }
 
     @Override
     public boolean existsByNombreAndIdNot(NombreAcademico nombre, FacultadId excludeId) {
+        if (!nombreIndex.puedeExistirEnOtro(nombre.getValue(), excludeId.getValue())) {
+            return false;
+        }
         return jpaRepository.existsByNombreAndIdNot(nombre.getValue(), excludeId.getValue());
     }
 
@@ -78,6 +161,7 @@ public class FacultadRepositoryAdapter implements FacultadRepositoryPort {
     @Override
     public void deleteById(FacultadId id) {
         jpaRepository.deleteById(id.getValue());
+        nombreIndex.eliminarTrasCommit(id.getValue());
     }
 }
 
@@ -0,0 +1,96 @@
+package com.university.cleanarchitecture.infrastructure.adapter.out.persistence.adapter;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Índice en memoria de los nombres (ya normalizados por NombreAcademico) de una tabla, para
+ * responder sin consulta la mayoría de comprobaciones "el nombre está libre".
+ *
+ * Solo las respuestas negativas son definitivas: si el índice conoce el nombre, el adaptador lo
+ * confirma contra la base de datos, porque otra instancia pudo renombrar o eliminar el registro.
+ * Un nombre registrado por otra instancia y aún desconocido aquí lo rechaza la restricción UNIQUE
+ * de la tabla, que sigue siendo la comprobación final (409 en la API).
+ *
+ * Hasta que se carga al arrancar la aplicación, todas las comprobaciones van a la base de datos.
+ * Los cambios se aplican al confirmar la transacción, para no anunciar nombres de un rollback.
+ */
+final class NombreUniquenessIndex {
+
+    private final Map<String, Long> idPorNombre = new ConcurrentHashMap<>();
+    private final Map<Long, String> nombrePorId = new ConcurrentHashMap<>();
+    private volatile boolean cargado;
+
+    boolean isCargado() {
+        return cargado;
+    }
+
+    /**
+     * Carga inicial. Usa putIfAbsent para no pisar cambios confirmados mientras se leía la tabla.
+     */
+    synchronized void cargar(Map<Long, String> nombres) {
+        nombres.forEach((id, nombre) -> {
+            if (nombrePorId.putIfAbsent(id, nombre) == null) {
+                idPorNombre.putIfAbsent(nombre, id);
+            }
+        });
+        cargado = true;
+    }
+
+    /**
+     * false si es seguro que ningún registro conocido usa el nombre.
+     */
+    boolean puedeExistir(String nombre) {
+        return !cargado || idPorNombre.containsKey(nombre);
+    }
+
+    /**
+     * false si es seguro que ningún registro conocido distinto de id usa el nombre.
+     */
+    boolean puedeExistirEnOtro(String nombre, Long id) {
+        if (!cargado) {
+            return true;
+        }
+        Long propietario = idPorNombre.get(nombre);
+        return propietario != null && !propietario.equals(id);
+    }
+
+    void registrarTrasCommit(Long id, String nombre) {
+        trasCommit(() -> registrar(id, nombre));
+    }
+
+    void eliminarTrasCommit(Long id) {
+        trasCommit(() -> eliminar(id));
+    }
+
+    private synchronized void registrar(Long id, String nombre) {
+        String anterior = nombrePorId.put(id, nombre);
+        if (anterior != null && !anterior.equals(nombre)) {
+            idPorNombre.remove(anterior, id);
+        }
+        idPorNombre.put(nombre, id);
+    }
+
+    private synchronized void eliminar(Long id) {
+        String nombre = nombrePorId.remove(id);
+        if (nombre != null) {
+            idPorNombre.remove(nombre, id);
+        }
+    }
+
+    private void trasCommit(Runnable cambio) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cambio.run();
+                }
+            });
+        } else {
+            cambio.run();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.university.cleanarchitecture.infrastructure.adapter.out.persistence.adapter;
+
+import com.university.cleanarchitecture.application.port.out.ResourceVersionPort;
+import com.university.cleanarchitecture.domain.model.valueobjects.CarreraId;
+import com.university.cleanarchitecture.domain.model.valueobjects.FacultadId;
+import com.university.cleanarchitecture.infrastructure.adapter.out.persistence.jpa.repository.CarreraJpaRepository;
+import com.university.cleanarchitecture.infrastructure.adapter.out.persistence.jpa.repository.FacultadJpaRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Calcula las versiones a partir de la columna @Version de cada entidad y de los conteos de
+ * filas (para detectar eliminaciones) con consultas de agregación, sin cargar las entidades.
+ * No se usa updated_at: dos escrituras en el mismo instante o un reloj que retrocede dejarían
+ * el mismo sello con contenido distinto.
+ */
+@Component
+public class ResourceVersionAdapter implements ResourceVersionPort {
+
+    private final FacultadJpaRepository facultadJpaRepository;
+    private final CarreraJpaRepository carreraJpaRepository;
+
+    public ResourceVersionAdapter(FacultadJpaRepository facultadJpaRepository,
+                                  CarreraJpaRepository carreraJpaRepository) {
+        this.facultadJpaRepository = facultadJpaRepository;
+        this.carreraJpaRepository = carreraJpaRepository;
+    }
+
+    @Override
+    public Optional<String> findFacultadVersion(FacultadId id) {
+        return firstRow(facultadJpaRepository.findVersionStampById(id.getValue()));
+    }
+
+    @Override
+    public Optional<String> findCarreraVersion(CarreraId id) {
+        return firstRow(carreraJpaRepository.findVersionStampById(id.getValue()));
+    }
+
+    @Override
+    public String findFacultadesVersion() {
+        return firstRow(facultadJpaRepository.findCatalogVersionStamp()).orElse("");
+    }
+
+    private Optional<String> firstRow(List<Object[]> rows) {
+        return rows.stream()
+                .findFirst()
+                .map(row -> Arrays.stream(row)
+                        .map(String::valueOf)
+                        .collect(Collectors.joining("|")));
+    }
+}
@@ -0,0 +1,106 @@
+package com.university.cleanarchitecture.infrastructure.adapter.out.persistence.adapter;
+
+import com.university.cleanarchitecture.application.port.out.IdAllocatorPort;
+import com.university.cleanarchitecture.domain.model.valueobjects.CarreraId;
+import com.university.cleanarchitecture.domain.model.valueobjects.FacultadId;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Asigna IDs a partir de secuencias de PostgreSQL usando bloques (optimizador "pooled").
+ *
+ * Cada nextval reserva un bloque de {@code allocationSize} valores consecutivos, que se
+ * entregan desde memoria. Varias instancias pueden compartir la misma secuencia sin
+ * colisiones y solo se consulta la base de datos una vez por bloque.
+ * Las secuencias se crean al arrancar si no existen (ddl-auto no las genera porque los IDs se
+ * asignan aquí y no con @GeneratedValue), con INCREMENT BY igual al tamaño de bloque.
+ * init-database.sql además las alinea con los IDs ya existentes.
+ */
+@Component
+public class SequenceIdAllocatorAdapter implements IdAllocatorPort, InitializingBean {
+
+    static final String CARRERAS_SEQUENCE = "carreras_id_seq";
+    static final String FACULTADES_SEQUENCE = "facultades_id_seq";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int allocationSize;
+    private final Block carreras;
+    private final Block facultades;
+
+    public SequenceIdAllocatorAdapter(JdbcTemplate jdbcTemplate,
+                                      @Value("${universidad.id-allocator.allocation-size:50}") int allocationSize) {
+        if (allocationSize <= 0) {
+            throw new IllegalArgumentException("El tamaño de bloque debe ser positivo");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.allocationSize = allocationSize;
+        this.carreras = new Block(CARRERAS_SEQUENCE, allocationSize);
+        this.facultades = new Block(FACULTADES_SEQUENCE, allocationSize);
+    }
+
+    // Fuera de cualquier transacción: si la creación se revirtiera junto con una escritura,
+    // la secuencia volvería a empezar y repetiría IDs ya entregados
+    @Override
+    public void afterPropertiesSet() {
+        createSequenceIfMissing(CARRERAS_SEQUENCE);
+        createSequenceIfMissing(FACULTADES_SEQUENCE);
+    }
+
+    @Override
+    public CarreraId nextCarreraId() {
+        return CarreraId.of(carreras.next());
+    }
+
+    @Override
+    public FacultadId nextFacultadId() {
+        return FacultadId.of(facultades.next());
+    }
+
+    private void createSequenceIfMissing(String sequence) {
+        jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS " + sequence
+                + " INCREMENT BY " + allocationSize + " START WITH 1");
+    }
+
+    private long nextBlockStart(String sequence) {
+        Long value = jdbcTemplate.queryForObject("SELECT nextval('" + sequence + "')", Long.class);
+        if (value == null) {
+            throw new IllegalStateException("La secuencia " + sequence + " no devolvió ningún valor");
+        }
+        return value;
+    }
+
+    /**
+     * Bloque de IDs reservado en memoria. Se usa ReentrantLock en lugar de synchronized
+     * para no fijar hilos virtuales mientras se consulta la secuencia.
+     */
+    private final class Block {
+
+        private final String sequence;
+        private final int size;
+        private final ReentrantLock lock = new ReentrantLock();
+        private long next;
+        private long limit;
+
+        private Block(String sequence, int size) {
+            this.sequence = sequence;
+            this.size = size;
+        }
+
+        private long next() {
+            lock.lock();
+            try {
+                if (next >= limit) {
+                    next = nextBlockStart(sequence);
+                    limit = next + size;
+                }
+                return next++;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
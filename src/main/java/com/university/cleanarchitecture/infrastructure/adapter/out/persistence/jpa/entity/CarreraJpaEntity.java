@@ -1,11 +1,13 @@
 package com.university.cleanarchitecture.infrastructure.adapter.out.persistence.jpa.entity;
 
 import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "carreras")
-public class CarreraJpaEntity {
+public class CarreraJpaEntity implements Persistable<Long> {
 
     @Id
     @Column(name = "id")
@@ -38,6 +40,11 @@ public class CarreraJpaEntity {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Control de concurrencia optimista: cada UPDATE comprueba e incrementa la versión
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0 not null")
+    private Long version;
+
     public CarreraJpaEntity() {
     }
 
@@ -49,11 +56,21 @@ public class CarreraJpaEntity {
         this.updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * Con el ID preasignado por secuencia, Spring Data no puede deducir si la entidad es
+     * nueva: sin versión se persiste directamente (INSERT sin el SELECT previo de merge).
+     */
+    @Override
+    public boolean isNew() {
+        return version == null;
+    }
+
     @PreUpdate
     public void preUpdate() {
         this.updatedAt = LocalDateTime.now();
     }
 
+    @Override
     public Long getId() {
         return id;
     }
@@ -133,5 +150,12 @@ public class CarreraJpaEntity {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
-}
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
@@ -0,0 +1,90 @@
+package com.university.cleanarchitecture.infrastructure.adapter.out.persistence.jpa.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Proyección de lectura de carreras (carrera_view): una fila por carrera con el nombre de su
+ * facultad ya copiado. Solo la escribe CarreraViewProjector; desde JPA es de solo lectura.
+ */
+@Entity
+@Immutable
+@Table(name = "carrera_view")
+public class CarreraViewJpaEntity {
+
+    @Id
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "facultad_id", nullable = false)
+    private Long facultadId;
+
+    @Column(name = "facultad_nombre", nullable = false, length = 100)
+    private String facultadNombre;
+
+    @Column(name = "nombre", nullable = false, length = 100)
+    private String nombre;
+
+    @Column(name = "descripcion", length = 500)
+    private String descripcion;
+
+    @Column(name = "duracion_semestres", nullable = false)
+    private Integer duracionSemestres;
+
+    @Column(name = "titulo_otorgado", nullable = false, length = 100)
+    private String tituloOtorgado;
+
+    @Column(name = "fecha_registro", nullable = false)
+    private LocalDateTime fechaRegistro;
+
+    @Column(name = "activo", nullable = false)
+    private Boolean activo;
+
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    public CarreraViewJpaEntity() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getFacultadId() {
+        return facultadId;
+    }
+
+    public String getFacultadNombre() {
+        return facultadNombre;
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    public String getDescripcion() {
+        return descripcion;
+    }
+
+    public Integer getDuracionSemestres() {
+        return duracionSemestres;
+    }
+
+    public String getTituloOtorgado() {
+        return tituloOtorgado;
+    }
+
+    public LocalDateTime getFechaRegistro() {
+        return fechaRegistro;
+    }
+
+    public Boolean getActivo() {
+        return activo;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+}
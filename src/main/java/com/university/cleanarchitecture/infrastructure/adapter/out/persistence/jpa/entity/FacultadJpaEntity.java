@@ -1,11 +1,13 @@
 package com.university.cleanarchitecture.infrastructure.adapter.out.persistence.jpa.entity;
 
 import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "facultades")
-public class FacultadJpaEntity {
+public class FacultadJpaEntity implements Persistable<Long> {
 
     @Id
     @Column(name = "id")
@@ -20,6 +22,10 @@ public class FacultadJpaEntity {
     @Column(name = "ubicacion", length = 200)
     private String ubicacion;
 
+    // Ubicación sin espacios sobrantes; indexada por lower(...) para las búsquedas por ubicación
+    @Column(name = "ubicacion_normalizada", length = 200)
+    private String ubicacionNormalizada;
+
     @Column(name = "decano", length = 100)
     private String decano;
 
@@ -35,6 +41,11 @@ public class FacultadJpaEntity {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Control de concurrencia optimista: cada UPDATE comprueba e incrementa la versión
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0 not null")
+    private Long version;
+
     // Constructores
     public FacultadJpaEntity() {
     }
@@ -47,12 +58,22 @@ public class FacultadJpaEntity {
         this.updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * Con el ID preasignado por secuencia, Spring Data no puede deducir si la entidad es
+     * nueva: sin versión se persiste directamente (INSERT sin el SELECT previo de merge).
+     */
+    @Override
+    public boolean isNew() {
+        return version == null;
+    }
+
     @PreUpdate
     public void preUpdate() {
         this.updatedAt = LocalDateTime.now();
     }
 
     // Getters y Setters
+    @Override
     public Long getId() {
         return id;
     }
@@ -83,6 +104,22 @@ public class FacultadJpaEntity {
 
     public void setUbicacion(String ubicacion) {
         this.ubicacion = ubicacion;
+        this.ubicacionNormalizada = normalizarUbicacion(ubicacion);
+    }
+
+    public String getUbicacionNormalizada() {
+        return ubicacionNormalizada;
+    }
+
+    /**
+     * "  Edificio   A " → "Edificio A". Debe coincidir con el relleno de init-database.sql.
+     */
+    public static String normalizarUbicacion(String ubicacion) {
+        if (ubicacion == null) {
+            return null;
+        }
+        String normalizada = ubicacion.strip().replaceAll("\\s+", " ");
+        return normalizada.isEmpty() ? null : normalizada;
     }
 
     public String getDecano() {
@@ -124,5 +161,12 @@ public class FacultadJpaEntity {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
-}
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
@@ -0,0 +1,120 @@
+package com.university.cleanarchitecture.infrastructure.adapter.out.persistence.jpa.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "outbox_eventos")
+public class OutboxEventJpaEntity {
+
+    // Orden de publicación; no se usa en las consultas de negocio
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "event_id", nullable = false, unique = true)
+    private UUID eventId;
+
+    @Column(name = "agregado", nullable = false, length = 50)
+    private String agregado;
+
+    @Column(name = "agregado_id", nullable = false)
+    private Long agregadoId;
+
+    @Column(name = "tipo", nullable = false, length = 100)
+    private String tipo;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "payload", nullable = false, columnDefinition = "jsonb")
+    private String payload;
+
+    @Column(name = "ocurrido_en", nullable = false)
+    private LocalDateTime ocurridoEn;
+
+    // Nulo mientras el evento no se ha publicado
+    @Column(name = "publicado_en")
+    private LocalDateTime publicadoEn;
+
+    @Column(name = "intentos", nullable = false)
+    private int intentos;
+
+    public OutboxEventJpaEntity() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public UUID getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(UUID eventId) {
+        this.eventId = eventId;
+    }
+
+    public String getAgregado() {
+        return agregado;
+    }
+
+    public void setAgregado(String agregado) {
+        this.agregado = agregado;
+    }
+
+    public Long getAgregadoId() {
+        return agregadoId;
+    }
+
+    public void setAgregadoId(Long agregadoId) {
+        this.agregadoId = agregadoId;
+    }
+
+    public String getTipo() {
+        return tipo;
+    }
+
+    public void setTipo(String tipo) {
+        this.tipo = tipo;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public void setPayload(String payload) {
+        this.payload = payload;
+    }
+
+    public LocalDateTime getOcurridoEn() {
+        return ocurridoEn;
+    }
+
+    public void setOcurridoEn(LocalDateTime ocurridoEn) {
+        this.ocurridoEn = ocurridoEn;
+    }
+
+    public LocalDateTime getPublicadoEn() {
+        return publicadoEn;
+    }
+
+    public void setPublicadoEn(LocalDateTime publicadoEn) {
+        this.publicadoEn = publicadoEn;
+    }
+
+    public int getIntentos() {
+        return intentos;
+    }
+
+    public void setIntentos(int intentos) {
+        this.intentos = intentos;
+    }
+}
@@ -6,6 +6,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +23,22 @@ public interface CarreraJpaRepository extends JpaRepository<CarreraJpaEntity, Lo
 
     List<CarreraJpaEntity> findByActivoTrue();
 
+    // La respuesta de una carrera incluye el nombre de su facultad
+    @Query("SELECT c.version, f.version FROM CarreraJpaEntity c, FacultadJpaEntity f " +
+            "WHERE c.id = :id AND f.id = c.facultadId")
+    List<Object[]> findVersionStampById(@Param("id") Long id);
+
+    // Feed de cambios: keyset sobre (updated_at, id), índice idx_carreras_updated_at_id
+    @Query(value = "SELECT c.id, c.facultad_id, c.nombre, c.descripcion, c.duracion_semestres, " +
+            "c.titulo_otorgado, c.fecha_registro, c.activo, c.created_at, c.updated_at, c.version " +
+            "FROM carreras c " +
+            "WHERE (c.updated_at, c.id) > (:desde, :id) AND c.updated_at <= :hasta " +
+            "ORDER BY c.updated_at, c.id LIMIT :limit", nativeQuery = true)
+    List<CarreraJpaEntity> findChangedAfter(@Param("desde") LocalDateTime desde,
+                                            @Param("id") long id,
+                                            @Param("hasta") LocalDateTime hasta,
+                                            @Param("limit") int limit);
+
     List<CarreraJpaEntity> findByDuracionSemestres(Integer duracionSemestres);
 
     List<CarreraJpaEntity> findByDuracionSemestresBetween(Integer minSemestres, Integer maxSemestres);
@@ -31,12 +49,41 @@ public interface CarreraJpaRepository extends JpaRepository<CarreraJpaEntity, Lo
     @Query("SELECT c FROM CarreraJpaEntity c WHERE c.duracionSemestres > 10")
     List<CarreraJpaEntity> findCarrerasLargas();
 
+    // LIKE '%...%' resuelto con el índice trigram idx_carreras_titulo_trgm
     List<CarreraJpaEntity> findByTituloOtorgadoContaining(String tituloOtorgado);
 
+    // Búsqueda de texto sobre la columna generada busqueda (índice GIN idx_carreras_busqueda)
+    @Query(value = "SELECT c.id, c.facultad_id, c.nombre, c.descripcion, c.duracion_semestres, " +
+            "c.titulo_otorgado, c.fecha_registro, c.activo, c.created_at, c.updated_at, c.version " +
+            "FROM carreras c, to_tsquery('universidad_es', :consulta) q " +
+            "WHERE c.busqueda @@ q AND (c.activo OR NOT :soloActivas) " +
+            "ORDER BY ts_rank_cd(c.busqueda, q) DESC, c.id " +
+            "LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<CarreraJpaEntity> search(@Param("consulta") String consulta,
+                                  @Param("soloActivas") boolean soloActivas,
+                                  @Param("offset") long offset,
+                                  @Param("limit") int limit);
+
+    @Query(value = "SELECT COUNT(*) FROM carreras c " +
+            "WHERE c.busqueda @@ to_tsquery('universidad_es', :consulta) AND (c.activo OR NOT :soloActivas)",
+            nativeQuery = true)
+    long countSearch(@Param("consulta") String consulta, @Param("soloActivas") boolean soloActivas);
+
     boolean existsByNombre(String nombre);
 
+    // Carga inicial de NombreUniquenessIndex
+    @Query("SELECT c.id, c.nombre FROM CarreraJpaEntity c")
+    List<Object[]> findAllIdsAndNombres();
+
+    @Query("SELECT c.nombre FROM CarreraJpaEntity c WHERE c.nombre IN :nombres")
+    List<String> findNombresIn(@Param("nombres") Collection<String> nombres);
+
     boolean existsByNombreAndIdNot(String nombre, Long id);
 
     @Query("SELECT COUNT(c) FROM CarreraJpaEntity c WHERE c.facultadId = :facultadId AND c.activo = true")
     long countActiveByFacultadId(@Param("facultadId") Long facultadId);
+
+    @Query("SELECT c.facultadId, COUNT(c) FROM CarreraJpaEntity c " +
+            "WHERE c.facultadId IN :facultadIds AND c.activo = true GROUP BY c.facultadId")
+    List<Object[]> countActiveGroupedByFacultadId(@Param("facultadIds") Collection<Long> facultadIds);
 }
@@ -0,0 +1,56 @@
+package com.university.cleanarchitecture.infrastructure.adapter.out.persistence.jpa.repository;
+
+import com.university.cleanarchitecture.infrastructure.adapter.out.persistence.jpa.entity.CarreraViewJpaEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Repository
+public interface CarreraViewJpaRepository extends JpaRepository<CarreraViewJpaEntity, Long> {
+
+    @Query("SELECT v FROM CarreraViewJpaEntity v " +
+            "WHERE v.facultadId = :facultadId AND (v.activo = true OR :soloActivas = false) ORDER BY v.id")
+    List<CarreraViewJpaEntity> findByFacultadId(@Param("facultadId") Long facultadId,
+                                                @Param("soloActivas") boolean soloActivas);
+
+    @Query("SELECT v FROM CarreraViewJpaEntity v " +
+            "WHERE v.duracionSemestres BETWEEN :minSemestres AND :maxSemestres " +
+            "AND (v.activo = true OR :soloActivas = false) ORDER BY v.id")
+    List<CarreraViewJpaEntity> findByDuracionBetween(@Param("minSemestres") int minSemestres,
+                                                     @Param("maxSemestres") int maxSemestres,
+                                                     @Param("soloActivas") boolean soloActivas);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT v FROM CarreraViewJpaEntity v ORDER BY v.id")
+    Stream<CarreraViewJpaEntity> streamAllOrderById();
+
+    // Recalcula las filas de las carreras indicadas a partir de las tablas
+    @Modifying
+    @Query(value = "INSERT INTO carrera_view (id, facultad_id, facultad_nombre, nombre, descripcion, " +
+            "duracion_semestres, titulo_otorgado, fecha_registro, activo, version) " +
+            "SELECT c.id, c.facultad_id, f.nombre, c.nombre, c.descripcion, c.duracion_semestres, " +
+            "c.titulo_otorgado, c.fecha_registro, c.activo, c.version " +
+            "FROM carreras c JOIN facultades f ON f.id = c.facultad_id " +
+            "WHERE c.id IN (:ids) " +
+            "ON CONFLICT (id) DO UPDATE SET facultad_id = EXCLUDED.facultad_id, " +
+            "facultad_nombre = EXCLUDED.facultad_nombre, nombre = EXCLUDED.nombre, " +
+            "descripcion = EXCLUDED.descripcion, duracion_semestres = EXCLUDED.duracion_semestres, " +
+            "titulo_otorgado = EXCLUDED.titulo_otorgado, fecha_registro = EXCLUDED.fecha_registro, " +
+            "activo = EXCLUDED.activo, version = EXCLUDED.version", nativeQuery = true)
+    int upsertCarreras(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query(value = "UPDATE carrera_view v SET facultad_nombre = f.nombre FROM facultades f " +
+            "WHERE f.id = v.facultad_id AND f.id IN (:ids) AND v.facultad_nombre <> f.nombre",
+            nativeQuery = true)
+    int refreshFacultadNombre(@Param("ids") Collection<Long> ids);
+}
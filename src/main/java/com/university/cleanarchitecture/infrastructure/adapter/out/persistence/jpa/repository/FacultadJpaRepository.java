@@ -6,6 +6,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,13 +18,47 @@ public interface FacultadJpaRepository extends JpaRepository<FacultadJpaEntity,
 
     List<FacultadJpaEntity> findByActivoTrue();
 
-    List<FacultadJpaEntity> findByUbicacion(String ubicacion);
+    @Query("SELECT f.id, f.nombre FROM FacultadJpaEntity f WHERE f.id IN :ids")
+    List<Object[]> findNombresByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Servida por el índice idx_facultades_ubicacion_normalizada sobre lower(ubicacion_normalizada)
+    @Query("SELECT f FROM FacultadJpaEntity f WHERE lower(f.ubicacionNormalizada) = lower(:ubicacion) ORDER BY f.nombre")
+    List<FacultadJpaEntity> findByUbicacionNormalizada(@Param("ubicacion") String ubicacion);
+
+    // Feed de cambios: keyset sobre (updated_at, id), índice idx_facultades_updated_at_id
+    @Query(value = "SELECT f.id, f.nombre, f.descripcion, f.ubicacion, f.ubicacion_normalizada, f.decano, " +
+            "f.fecha_registro, f.activo, f.created_at, f.updated_at, f.version " +
+            "FROM facultades f " +
+            "WHERE (f.updated_at, f.id) > (:desde, :id) AND f.updated_at <= :hasta " +
+            "ORDER BY f.updated_at, f.id LIMIT :limit", nativeQuery = true)
+    List<FacultadJpaEntity> findChangedAfter(@Param("desde") LocalDateTime desde,
+                                             @Param("id") long id,
+                                             @Param("hasta") LocalDateTime hasta,
+                                             @Param("limit") int limit);
 
     boolean existsByNombre(String nombre);
 
+    // Carga inicial de NombreUniquenessIndex
+    @Query("SELECT f.id, f.nombre FROM FacultadJpaEntity f")
+    List<Object[]> findAllIdsAndNombres();
+
     boolean existsByNombreAndIdNot(String nombre, Long id);
 
     @Query("SELECT COUNT(c) FROM CarreraJpaEntity c WHERE c.facultadId = :facultadId")
     long countCarrerasByFacultadId(@Param("facultadId") Long facultadId);
+
+    // La respuesta de una facultad incluye el conteo de sus carreras activas
+    @Query("SELECT f.version, " +
+            "(SELECT COUNT(c) FROM CarreraJpaEntity c WHERE c.facultadId = f.id AND c.activo = true) " +
+            "FROM FacultadJpaEntity f WHERE f.id = :id")
+    List<Object[]> findVersionStampById(@Param("id") Long id);
+
+    // @version sube con cada cambio; la suma de ids detecta un alta y una baja que dejen igual el conteo
+    @Query("SELECT SUM(f.version), COUNT(f), SUM(f.id), " +
+            "(SELECT SUM(c.version) FROM CarreraJpaEntity c), " +
+            "(SELECT COUNT(c) FROM CarreraJpaEntity c), " +
+            "(SELECT SUM(c.id) FROM CarreraJpaEntity c) " +
+            "FROM FacultadJpaEntity f")
+    List<Object[]> findCatalogVersionStamp();
 }
 
@@ -0,0 +1,39 @@
+package com.university.cleanarchitecture.infrastructure.adapter.out.persistence.jpa.repository;
+
+import com.university.cleanarchitecture.infrastructure.adapter.out.persistence.jpa.entity.OutboxEventJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface OutboxEventJpaRepository extends JpaRepository<OutboxEventJpaEntity, Long> {
+
+    // SKIP LOCKED: varias instancias pueden publicar a la vez sin repartirse los mismos eventos.
+    // Los que agotaron sus intentos quedan aparcados y no bloquean a los demás.
+    @Query(value = "SELECT * FROM outbox_eventos WHERE publicado_en IS NULL AND intentos < :maxIntentos " +
+            "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OutboxEventJpaEntity> lockPendientes(@Param("limit") int limit, @Param("maxIntentos") int maxIntentos);
+
+    @Query(value = "SELECT * FROM outbox_eventos WHERE id = :id AND publicado_en IS NULL " +
+            "AND intentos < :maxIntentos FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    Optional<OutboxEventJpaEntity> lockPendiente(@Param("id") Long id, @Param("maxIntentos") int maxIntentos);
+
+    @Modifying
+    @Query("UPDATE OutboxEventJpaEntity e SET e.publicadoEn = :publicadoEn WHERE e.id IN :ids")
+    int marcarPublicados(@Param("ids") Collection<Long> ids, @Param("publicadoEn") LocalDateTime publicadoEn);
+
+    @Modifying
+    @Query("UPDATE OutboxEventJpaEntity e SET e.intentos = e.intentos + 1 WHERE e.id IN :ids")
+    int incrementarIntentos(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEventJpaEntity e WHERE e.publicadoEn < :limite")
+    int deletePublicadosAntesDe(@Param("limite") LocalDateTime limite);
+}
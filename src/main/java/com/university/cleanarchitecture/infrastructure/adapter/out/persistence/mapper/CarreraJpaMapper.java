@@ -21,20 +21,38 @@ public class CarreraJpaMapper {
         entity.setTituloOtorgado(carrera.getTituloOtorgado());
         entity.setFechaRegistro(carrera.getFechaRegistro());
         entity.setActivo(carrera.isActivo());
+        entity.setVersion(carrera.getVersion());
 
         return entity;
     }
 
+    /**
+     * Aplica el estado del agregado sobre una entidad ya gestionada; el dirty checking de
+     * Hibernate emite un único UPDATE (o ninguno si no hay cambios). No toca id, createdAt
+     * ni versión.
+     */
+    public void updateJpaEntity(Carrera carrera, CarreraJpaEntity entity) {
+        entity.setFacultadId(carrera.getFacultadId().getValue());
+        entity.setNombre(carrera.getNombre().getValue());
+        entity.setDescripcion(carrera.getDescripcion());
+        entity.setDuracionSemestres(carrera.getDuracion().getSemestres());
+        entity.setTituloOtorgado(carrera.getTituloOtorgado());
+        entity.setFechaRegistro(carrera.getFechaRegistro());
+        entity.setActivo(carrera.isActivo());
+    }
+
     public Carrera toDomainModel(CarreraJpaEntity entity) {
-        return new Carrera(
-                new CarreraId(entity.getId()),
-                new FacultadId(entity.getFacultadId()),
-                new NombreAcademico(entity.getNombre()),
+        // Los datos persistidos ya pasaron las validaciones del dominio al guardarse
+        return Carrera.rehidratar(
+                CarreraId.of(entity.getId()),
+                FacultadId.of(entity.getFacultadId()),
+                NombreAcademico.rehidratar(entity.getNombre()),
                 entity.getDescripcion(),
-                new Duracion(entity.getDuracionSemestres()),
+                Duracion.of(entity.getDuracionSemestres()),
                 entity.getTituloOtorgado(),
                 entity.getFechaRegistro(),
-                entity.getActivo()
+                entity.getActivo(),
+                entity.getVersion()
         );
     }
 }
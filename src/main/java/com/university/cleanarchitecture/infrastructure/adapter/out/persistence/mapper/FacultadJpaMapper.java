@@ -18,19 +18,36 @@ public class FacultadJpaMapper {
         entity.setDecano(facultad.getDecano());
         entity.setFechaRegistro(facultad.getFechaRegistro());
         entity.setActivo(facultad.isActivo());
+        entity.setVersion(facultad.getVersion());
 
         return entity;
     }
 
+    /**
+     * Aplica el estado del agregado sobre una entidad ya gestionada; el dirty checking de
+     * Hibernate emite un único UPDATE (o ninguno si no hay cambios). No toca id, createdAt
+     * ni versión.
+     */
+    public void updateJpaEntity(Facultad facultad, FacultadJpaEntity entity) {
+        entity.setNombre(facultad.getNombre().getValue());
+        entity.setDescripcion(facultad.getDescripcion());
+        entity.setUbicacion(facultad.getUbicacion());
+        entity.setDecano(facultad.getDecano());
+        entity.setFechaRegistro(facultad.getFechaRegistro());
+        entity.setActivo(facultad.isActivo());
+    }
+
     public Facultad toDomainModel(FacultadJpaEntity entity) {
-        return new Facultad(
-                new FacultadId(entity.getId()),
-                new NombreAcademico(entity.getNombre()),
+        // Los datos persistidos ya pasaron las validaciones del dominio al guardarse
+        return Facultad.rehidratar(
+                FacultadId.of(entity.getId()),
+                NombreAcademico.rehidratar(entity.getNombre()),
                 entity.getDescripcion(),
                 entity.getUbicacion(),
                 entity.getDecano(),
                 entity.getFechaRegistro(),
-                entity.getActivo()
+                entity.getActivo(),
+                entity.getVersion()
         );
     }
 }
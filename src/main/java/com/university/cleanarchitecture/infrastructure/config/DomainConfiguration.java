@@ -79,8 +79,7 @@ public class DomainConfiguration {
             @Override
             public java.util.List<com.university.cleanarchitecture.domain.model.Carrera> findByTituloOtorgadoContaining(
                     String tituloOtorgado) {
-                // Esta funcionalidad no está en el port, retornamos lista vacía
-                return java.util.Collections.emptyList();
+                return carreraRepositoryPort.findByTituloOtorgadoContaining(tituloOtorgado);
             }
 
             @Override
@@ -147,8 +146,7 @@ public class DomainConfiguration {
             @Override
             public java.util.List<com.university.cleanarchitecture.domain.model.Facultad> findByUbicacion(
                     String ubicacion) {
-                // Esta funcionalidad no está en el port, retornamos lista vacía
-                return java.util.Collections.emptyList();
+                return facultadRepositoryPort.findByUbicacion(ubicacion);
             }
 
             @Override
@@ -0,0 +1,64 @@
+package com.university.cleanarchitecture.infrastructure.error;
+
+import com.university.cleanarchitecture.application.exception.DeadlineExceededException;
+import com.university.cleanarchitecture.domain.exception.CarreraNotFoundException;
+import com.university.cleanarchitecture.domain.exception.DomainException;
+import com.university.cleanarchitecture.domain.exception.FacultadNotFoundException;
+import com.university.cleanarchitecture.domain.exception.InvalidDurationException;
+import com.university.cleanarchitecture.domain.exception.VersionConflictException;
+import jakarta.validation.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.List;
+
+/**
+ * Código de error de la API para cada excepción, con su estado HTTP. Es la única tabla:
+ * GlobalExceptionHandler la usa para responder y UseCaseMetricsAspect para etiquetar los errores.
+ *
+ * Las constantes van de la excepción más específica a la más general; resolve() devuelve la
+ * primera que coincide.
+ */
+public enum ErrorCode {
+
+    FACULTAD_NOT_FOUND(HttpStatus.NOT_FOUND, FacultadNotFoundException.class),
+    CARRERA_NOT_FOUND(HttpStatus.NOT_FOUND, CarreraNotFoundException.class),
+    INVALID_DURATION(HttpStatus.BAD_REQUEST, InvalidDurationException.class),
+    VERSION_CONFLICT(HttpStatus.CONFLICT, VersionConflictException.class,
+            ObjectOptimisticLockingFailureException.class),
+    // Restricción de la base de datos (p. ej. UNIQUE de nombre) violada por una escritura concurrente
+    DATA_CONFLICT(HttpStatus.CONFLICT, DataIntegrityViolationException.class),
+    VALIDATION_ERROR(HttpStatus.BAD_REQUEST, MethodArgumentNotValidException.class,
+            ConstraintViolationException.class),
+    DOMAIN_ERROR(HttpStatus.BAD_REQUEST, DomainException.class),
+    INVALID_ARGUMENT(HttpStatus.BAD_REQUEST, IllegalArgumentException.class),
+    INVALID_STATE(HttpStatus.CONFLICT, IllegalStateException.class),
+    DEADLINE_EXCEEDED(HttpStatus.SERVICE_UNAVAILABLE, DeadlineExceededException.class),
+    INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR);
+
+    private final HttpStatus status;
+    private final List<Class<? extends Throwable>> excepciones;
+
+    @SafeVarargs
+    ErrorCode(HttpStatus status, Class<? extends Throwable>... excepciones) {
+        this.status = status;
+        this.excepciones = List.of(excepciones);
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+
+    public static ErrorCode resolve(Throwable ex) {
+        for (ErrorCode code : values()) {
+            for (Class<? extends Throwable> tipo : code.excepciones) {
+                if (tipo.isInstance(ex)) {
+                    return code;
+                }
+            }
+        }
+        return INTERNAL_ERROR;
+    }
+}
@@ -0,0 +1,27 @@
+package com.university.cleanarchitecture.infrastructure.observability;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Registra en Hibernate un StatementInspector que cuenta cada sentencia preparada
+ * (consultas, DML y lotes JDBC) en SqlStatementCounter.
+ */
+@Component
+public class CountingStatementInspector implements StatementInspector, HibernatePropertiesCustomizer {
+
+    @Override
+    public String inspect(String sql) {
+        SqlStatementCounter.increment();
+        return sql;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+}
@@ -0,0 +1,42 @@
+package com.university.cleanarchitecture.infrastructure.observability;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Envuelve el DataSource (Hikari) con datasource-proxy para medir cada sentencia y
+ * registrarla con QueryLoggingListener. Sustituye a spring.jpa.show-sql, que escribía todas
+ * las sentencias en la consola de forma síncrona.
+ */
+@Component
+public class QueryLoggingDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final boolean enabled;
+    private final QueryLoggingListener listener;
+
+    public QueryLoggingDataSourcePostProcessor(
+            @Value("${universidad.sql.logging.enabled:true}") boolean enabled,
+            @Value("${universidad.sql.logging.slow-threshold:200ms}") Duration slowThreshold,
+            @Value("${universidad.sql.logging.sample-rate:0.0}") double sampleRate,
+            @Value("${universidad.sql.logging.include-parameters:false}") boolean includeParameters) {
+        this.enabled = enabled;
+        this.listener = new QueryLoggingListener(slowThreshold, sampleRate, includeParameters);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!enabled || !(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+            return bean;
+        }
+        return ProxyDataSourceBuilder.create(dataSource)
+                .name(beanName)
+                .listener(listener)
+                .build();
+    }
+}
@@ -0,0 +1,109 @@
+package com.university.cleanarchitecture.infrastructure.observability;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Registra las sentencias JDBC como una línea JSON en el logger "universidad.sql":
+ *
+ * - WARN para las que superan el umbral de consulta lenta (siempre).
+ * - INFO para una muestra aleatoria del resto (sample-rate entre 0 y 1).
+ *
+ * Los parámetros solo se incluyen con include-parameters=true, porque pueden contener datos
+ * personales.
+ */
+public class QueryLoggingListener implements QueryExecutionListener {
+
+    private static final Logger log = LoggerFactory.getLogger("universidad.sql");
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    // Cota para no volcar lotes JDBC enteros al log
+    private static final int MAX_PARAMETER_SETS = 10;
+
+    private final long slowThresholdMillis;
+    private final double sampleRate;
+    private final boolean includeParameters;
+
+    public QueryLoggingListener(Duration slowThreshold, double sampleRate, boolean includeParameters) {
+        this.slowThresholdMillis = slowThreshold.toMillis();
+        this.sampleRate = sampleRate;
+        this.includeParameters = includeParameters;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        boolean slow = execInfo.getElapsedTime() >= slowThresholdMillis;
+        if (slow) {
+            if (log.isWarnEnabled()) {
+                log.warn(toJson("slow", execInfo, queryInfoList));
+            }
+        } else if (sampleRate > 0 && log.isInfoEnabled()
+                && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            log.info(toJson("sampled", execInfo, queryInfoList));
+        }
+    }
+
+    private String toJson(String type, ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("type", type);
+        entry.put("elapsedMs", execInfo.getElapsedTime());
+        entry.put("success", execInfo.isSuccess());
+        entry.put("statementType", String.valueOf(execInfo.getStatementType()));
+        entry.put("batch", execInfo.isBatch());
+        if (execInfo.isBatch()) {
+            entry.put("batchSize", execInfo.getBatchSize());
+        }
+        entry.put("thread", Thread.currentThread().getName());
+
+        List<String> queries = new ArrayList<>(queryInfoList.size());
+        List<List<String>> parameters = new ArrayList<>();
+        for (QueryInfo queryInfo : queryInfoList) {
+            queries.add(queryInfo.getQuery());
+            if (includeParameters) {
+                for (List<ParameterSetOperation> parameterSet : queryInfo.getParametersList()) {
+                    if (parameters.size() == MAX_PARAMETER_SETS) {
+                        break;
+                    }
+                    parameters.add(parameterValues(parameterSet));
+                }
+            }
+        }
+        entry.put("queries", queries);
+        if (includeParameters) {
+            entry.put("parameters", parameters);
+        }
+
+        try {
+            return JSON.writeValueAsString(entry);
+        } catch (JsonProcessingException ex) {
+            return "{\"type\":\"" + type + "\",\"error\":\"" + ex.getClass().getSimpleName() + "\"}";
+        }
+    }
+
+    // args = [índice, valor] para los setXxx del PreparedStatement
+    private List<String> parameterValues(List<ParameterSetOperation> parameterSet) {
+        List<String> values = new ArrayList<>(parameterSet.size());
+        for (ParameterSetOperation operation : parameterSet) {
+            Object[] args = operation.getArgs();
+            values.add(args.length > 1 ? String.valueOf(args[1]) : null);
+        }
+        return values;
+    }
+}
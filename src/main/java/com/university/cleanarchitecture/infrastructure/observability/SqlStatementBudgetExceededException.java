@@ -0,0 +1,13 @@
+package com.university.cleanarchitecture.infrastructure.observability;
+
+/**
+ * Una petición ejecutó más sentencias SQL que el presupuesto configurado. Solo se lanza con
+ * universidad.sql.fail-on-budget-exceeded=true (activado en los tests).
+ */
+public class SqlStatementBudgetExceededException extends RuntimeException {
+
+    public SqlStatementBudgetExceededException(String endpoint, int statements, int budget) {
+        super("El endpoint " + endpoint + " ejecutó " + statements
+                + " sentencias SQL (presupuesto: " + budget + ")");
+    }
+}
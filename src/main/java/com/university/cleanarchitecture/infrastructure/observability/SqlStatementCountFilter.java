@@ -0,0 +1,137 @@
+package com.university.cleanarchitecture.infrastructure.observability;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Cuenta las sentencias SQL de cada petición HTTP para detectar patrones N+1.
+ *
+ * - Cabecera X-SQL-Statement-Count en la respuesta.
+ * - Métrica universidad.http.sql.statements por endpoint.
+ * - Aviso en el log (o excepción, en los tests) si se supera universidad.sql.statement-budget.
+ *
+ * Las peticiones asíncronas (exportación NDJSON, long-poll de cambios, SSE) no se miden: su
+ * trabajo sigue en otros hilos después de que el filtro termine, así que el recuento estaría
+ * incompleto. OncePerRequestFilter tampoco se ejecuta en el despacho asíncrono.
+ */
+@Component
+public class SqlStatementCountFilter extends OncePerRequestFilter {
+
+    static final String HEADER = "X-SQL-Statement-Count";
+    static final String METRIC = "universidad.http.sql.statements";
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementCountFilter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final int budget;
+    private final boolean failOnBudgetExceeded;
+
+    public SqlStatementCountFilter(MeterRegistry meterRegistry,
+                                   @Value("${universidad.sql.statement-budget:10}") int budget,
+                                   @Value("${universidad.sql.fail-on-budget-exceeded:false}") boolean failOnBudgetExceeded) {
+        this.meterRegistry = meterRegistry;
+        this.budget = budget;
+        this.failOnBudgetExceeded = failOnBudgetExceeded;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        SqlStatementCounter.start();
+        StatementCountResponseWrapper wrapper = new StatementCountResponseWrapper(response);
+        int statements;
+        try {
+            filterChain.doFilter(request, wrapper);
+        } finally {
+            statements = SqlStatementCounter.stop();
+        }
+        if (request.isAsyncStarted()) {
+            wrapper.descartar();
+            return;
+        }
+        // Respuestas sin cuerpo (204, 304): la cabecera aún no se escribió
+        if (!response.isCommitted()) {
+            response.setHeader(HEADER, Integer.toString(statements));
+        }
+
+        String uri = endpointPattern(request);
+        DistributionSummary.builder(METRIC)
+                .description("Sentencias SQL ejecutadas por petición")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)
+                .record(statements);
+
+        if (statements > budget) {
+            String endpoint = request.getMethod() + " " + uri;
+            if (failOnBudgetExceeded) {
+                throw new SqlStatementBudgetExceededException(endpoint, statements, budget);
+            }
+            log.warn("{} ejecutó {} sentencias SQL (presupuesto: {}); posible N+1", endpoint, statements, budget);
+        }
+    }
+
+    // Patrón del handler (/api/v1/carreras/{id}) para no disparar la cardinalidad con IDs
+    private String endpointPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+
+    /**
+     * Escribe la cabecera justo antes de que empiece el cuerpo: el controlador ya terminó
+     * y la respuesta todavía no está comprometida.
+     */
+    private static final class StatementCountResponseWrapper extends HttpServletResponseWrapper {
+
+        // El cuerpo de una petición asíncrona se escribe desde otro hilo, sin contador
+        private volatile boolean descartado;
+
+        private StatementCountResponseWrapper(HttpServletResponse response) {
+            super(response);
+        }
+
+        private void descartar() {
+            descartado = true;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeader();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeader();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeader();
+            super.flushBuffer();
+        }
+
+        private void writeHeader() {
+            if (!descartado && !isCommitted()) {
+                setHeader(HEADER, Integer.toString(SqlStatementCounter.current()));
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.university.cleanarchitecture.infrastructure.observability;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Contador de sentencias SQL de la petición HTTP en curso.
+ *
+ * Es heredable para que las llamadas en paralelo de FanOutExecutor, que se lanzan en hilos
+ * virtuales creados desde el hilo de la petición, sumen sobre el mismo contador.
+ */
+public final class SqlStatementCounter {
+
+    private static final InheritableThreadLocal<AtomicInteger> CURRENT = new InheritableThreadLocal<>();
+
+    private SqlStatementCounter() {
+    }
+
+    public static void start() {
+        CURRENT.set(new AtomicInteger());
+    }
+
+    public static void increment() {
+        AtomicInteger counter = CURRENT.get();
+        if (counter != null) {
+            counter.incrementAndGet();
+        }
+    }
+
+    public static int current() {
+        AtomicInteger counter = CURRENT.get();
+        return counter != null ? counter.get() : 0;
+    }
+
+    public static int stop() {
+        int count = current();
+        CURRENT.remove();
+        return count;
+    }
+}
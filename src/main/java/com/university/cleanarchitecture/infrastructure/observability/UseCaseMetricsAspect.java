@@ -0,0 +1,158 @@
+package com.university.cleanarchitecture.infrastructure.observability;
+
+import com.university.cleanarchitecture.application.dto.response.CarreraBatchResponse;
+import com.university.cleanarchitecture.application.dto.response.PageResponse;
+import com.university.cleanarchitecture.infrastructure.error.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Métricas de todos los puertos de entrada (application.port.in):
+ *
+ * - universidad.usecase.duration: latencia con percentiles e histograma, por caso de uso,
+ *   método y resultado (success/error).
+ * - universidad.usecase.errors: errores por tipo de excepción y código de la API.
+ * - universidad.usecase.result.size: tamaño de las colecciones devueltas.
+ *
+ * Se ejecuta por fuera de @Transactional para incluir el commit y sus errores.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class UseCaseMetricsAspect {
+
+    static final String DURATION = "universidad.usecase.duration";
+    static final String ERRORS = "universidad.usecase.errors";
+    static final String RESULT_SIZE = "universidad.usecase.result.size";
+
+    private static final String PORTS_PACKAGE = "com.university.cleanarchitecture.application.port.in";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, String> useCaseNames = new ConcurrentHashMap<>();
+
+    public UseCaseMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(* com.university.cleanarchitecture.application.port.in.*.*(..))")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        String useCase = useCaseNames.computeIfAbsent(method,
+                m -> resolveUseCase(m, AopUtils.getTargetClass(joinPoint.getTarget())));
+        String methodName = method.getName();
+
+        Object[] args = joinPoint.getArgs();
+        AtomicLong consumed = countConsumerArguments(args);
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            Object result = joinPoint.proceed(args);
+            sample.stop(timer(useCase, methodName, "success"));
+            recordResultSize(useCase, methodName, consumed != null ? consumed.get() : resultSize(result));
+            return result;
+        } catch (Throwable ex) {
+            sample.stop(timer(useCase, methodName, "error"));
+            Counter.builder(ERRORS)
+                    .description("Errores de casos de uso por tipo y código de la API")
+                    .tag("use_case", useCase)
+                    .tag("method", methodName)
+                    .tag("exception", ex.getClass().getSimpleName())
+                    .tag("code", ErrorCode.resolve(ex).name())
+                    .register(meterRegistry)
+                    .increment();
+            throw ex;
+        }
+    }
+
+    private Timer timer(String useCase, String methodName, String outcome) {
+        return Timer.builder(DURATION)
+                .description("Latencia de los casos de uso")
+                .tag("use_case", useCase)
+                .tag("method", methodName)
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private void recordResultSize(String useCase, String methodName, long size) {
+        if (size < 0) {
+            return;
+        }
+        DistributionSummary.builder(RESULT_SIZE)
+                .description("Elementos devueltos por los casos de uso")
+                .baseUnit("items")
+                .tag("use_case", useCase)
+                .tag("method", methodName)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)
+                .record(size);
+    }
+
+    // -1 cuando el resultado no es una colección (un único recurso, void, etc.)
+    private long resultSize(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Map<?, ?> map) {
+            return map.size();
+        }
+        if (result instanceof PageResponse<?> page) {
+            return page.getContent() != null ? page.getContent().size() : 0;
+        }
+        if (result instanceof CarreraBatchResponse batch) {
+            return batch.getTotal();
+        }
+        return -1;
+    }
+
+    /**
+     * Los casos de uso de exportación entregan los elementos a un Consumer en lugar de
+     * devolverlos; se envuelve para contar lo que recibe.
+     */
+    @SuppressWarnings("unchecked")
+    private AtomicLong countConsumerArguments(Object[] args) {
+        AtomicLong counter = null;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i] instanceof Consumer<?> sink) {
+                AtomicLong count = counter = (counter != null ? counter : new AtomicLong());
+                Consumer<Object> target = (Consumer<Object>) sink;
+                args[i] = (Consumer<Object>) item -> {
+                    count.incrementAndGet();
+                    target.accept(item);
+                };
+            }
+        }
+        return counter;
+    }
+
+    // Nombre del puerto de entrada que declara el método, p. ej. RegisterCarreraUseCase
+    private String resolveUseCase(Method method, Class<?> targetClass) {
+        for (Class<?> type : ClassUtils.getAllInterfacesForClassAsSet(targetClass)) {
+            if (PORTS_PACKAGE.equals(type.getPackageName())
+                    && ReflectionUtils.findMethod(type, method.getName(), method.getParameterTypes()) != null) {
+                return type.getSimpleName();
+            }
+        }
+        return method.getDeclaringClass().getSimpleName();
+    }
+}
@@ -0,0 +1,140 @@
+package com.university.cleanarchitecture.application;
+
+import com.university.cleanarchitecture.application.exception.DeadlineExceededException;
+import com.university.cleanarchitecture.application.service.FanOutExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para FanOutExecutor.
+ *
+ * Verifica:
+ * - Ejecución concurrente de las dos llamadas
+ * - Propagación de excepciones de la llamada en paralelo
+ * - Cancelación al superar el deadline, en cualquiera de las dos llamadas
+ * - Modo secuencial, también sin permisos de concurrencia libres
+ */
+class FanOutExecutorTest {
+
+    private final FanOutExecutor fanOut = new FanOutExecutor(true, Duration.ofMillis(500), 4);
+
+    @AfterEach
+    void tearDown() {
+        fanOut.destroy();
+    }
+
+    @Test
+    @DisplayName("Debe ejecutar ambas llamadas a la vez y combinar sus resultados")
+    void testCombinar_EjecutaEnParalelo() {
+        // Given: cada llamada espera a que la otra haya empezado
+        CountDownLatch ambasIniciadas = new CountDownLatch(2);
+
+        // When
+        String resultado = fanOut.combinar(
+                () -> esperar(ambasIniciadas, "facultad"),
+                () -> esperar(ambasIniciadas, 3),
+                (nombre, cantidad) -> nombre + ":" + cantidad);
+
+        // Then
+        assertEquals("facultad:3", resultado);
+    }
+
+    @Test
+    @DisplayName("Debe propagar la excepción original de la llamada en paralelo")
+    void testCombinar_PropagaExcepcion() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> fanOut.combinar(() -> "ok", () -> {
+                    throw new IllegalArgumentException("fallo");
+                }, (a, b) -> a));
+
+        assertEquals("fallo", ex.getMessage());
+    }
+
+    @Test
+    @DisplayName("Debe cancelar la llamada en paralelo al superar el deadline")
+    void testCombinar_DeadlineExcedido() throws InterruptedException {
+        // Given
+        CountDownLatch interrumpida = new CountDownLatch(1);
+
+        // When / Then
+        assertThrows(DeadlineExceededException.class, () -> fanOut.combinar(() -> "ok", () -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrumpida.countDown();
+            }
+            return 0;
+        }, (a, b) -> a));
+        assertTrue(interrumpida.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Debe aplicar el deadline también a la llamada del hilo actual")
+    void testCombinar_DeadlineExcedidoEnPrimera() {
+        assertThrows(DeadlineExceededException.class, () -> fanOut.combinar(() -> {
+            try {
+                Thread.sleep(700);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "ok";
+        }, () -> 0, (a, b) -> a));
+    }
+
+    @Test
+    @DisplayName("Sin permisos libres debe ejecutar las llamadas en secuencia en el hilo actual")
+    void testCombinar_SinPermisosEjecutaEnSecuencia() {
+        // Given
+        FanOutExecutor sinPermisos = new FanOutExecutor(true, Duration.ofMillis(500), 0);
+        Thread actual = Thread.currentThread();
+
+        try {
+            // When
+            boolean resultado = sinPermisos.combinar(
+                    () -> Thread.currentThread() == actual,
+                    () -> Thread.currentThread() == actual,
+                    (a, b) -> a && b);
+
+            // Then
+            assertTrue(resultado);
+        } finally {
+            sinPermisos.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("En modo secuencial debe ejecutar las llamadas en orden en el hilo actual")
+    void testSecuencial_EjecutaEnOrden() {
+        // Given
+        FanOutExecutor secuencial = FanOutExecutor.secuencial();
+        Thread actual = Thread.currentThread();
+        AtomicBoolean primeraEjecutada = new AtomicBoolean();
+
+        // When
+        boolean resultado = secuencial.combinar(
+                () -> primeraEjecutada.getAndSet(true),
+                () -> primeraEjecutada.get() && Thread.currentThread() == actual,
+                (a, b) -> !a && b);
+
+        // Then
+        assertTrue(resultado);
+    }
+
+    private static <T> T esperar(CountDownLatch latch, T valor) {
+        latch.countDown();
+        try {
+            assertTrue(latch.await(1, TimeUnit.SECONDS), "las llamadas no se ejecutaron a la vez");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return valor;
+    }
+}
@@ -0,0 +1,71 @@
+package com.university.cleanarchitecture.domain;
+
+import com.university.cleanarchitecture.domain.model.valueobjects.NombreAcademico;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para NombreAcademico.
+ *
+ * Verifica:
+ * - Normalización de mayúsculas, artículos y espacios
+ * - Reutilización de la instancia cuando el texto ya está normalizado
+ * - Cálculo de iniciales
+ * - Validaciones de longitud
+ */
+class NombreAcademicoTest {
+
+    @Test
+    @DisplayName("Debe normalizar mayúsculas, artículos y espacios")
+    void testNormalizar_TextoSinNormalizar() {
+        // Given
+        String nombre = "  INGENIERÍA   de\tSISTEMAS E informática  ";
+
+        // When
+        NombreAcademico nombreAcademico = NombreAcademico.of(nombre);
+
+        // Then
+        assertEquals("Ingeniería de Sistemas e Informática", nombreAcademico.getValue());
+    }
+
+    @Test
+    @DisplayName("Debe conservar la misma instancia si el texto ya está normalizado")
+    void testNormalizar_TextoYaNormalizado_NoCopia() {
+        // Given
+        String nombre = "Facultad de Ciencias de la Salud";
+
+        // When
+        NombreAcademico nombreAcademico = NombreAcademico.of(nombre);
+
+        // Then
+        assertSame(nombre, nombreAcademico.getValue());
+    }
+
+    @Test
+    @DisplayName("Debe tratar igual que antes los casos especiales de mayúsculas")
+    void testNormalizar_CasosEspeciales() {
+        assertEquals("SStraße de los Ángeles", NombreAcademico.of("ßtraße DE LOS ángeles").getValue());
+        assertEquals("Ÿves y Ñandú", NombreAcademico.of("ÿves Y ÑANDÚ").getValue());
+    }
+
+    @Test
+    @DisplayName("Debe calcular las iniciales omitiendo artículos y preposiciones")
+    void testGetIniciales() {
+        // Given
+        NombreAcademico nombreAcademico = NombreAcademico.of("facultad de ciencias de la salud");
+
+        // Then
+        assertEquals("FCS", nombreAcademico.getIniciales());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar nombres vacíos, cortos o demasiado largos")
+    void testValidaciones() {
+        assertThrows(IllegalArgumentException.class, () -> NombreAcademico.of(null));
+        assertThrows(IllegalArgumentException.class, () -> NombreAcademico.of("   "));
+        assertThrows(IllegalArgumentException.class, () -> NombreAcademico.of("ab"));
+        assertThrows(IllegalArgumentException.class, () -> NombreAcademico.of("a".repeat(101)));
+    }
+}
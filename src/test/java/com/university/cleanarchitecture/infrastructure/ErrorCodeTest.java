@@ -0,0 +1,79 @@
+package com.university.cleanarchitecture.infrastructure;
+
+import com.university.cleanarchitecture.application.dto.query.FindCarrerasPageQuery;
+import com.university.cleanarchitecture.application.dto.query.SearchCarrerasQuery;
+import com.university.cleanarchitecture.domain.exception.FacultadNotFoundException;
+import com.university.cleanarchitecture.domain.exception.InvalidDurationException;
+import com.university.cleanarchitecture.infrastructure.error.ErrorCode;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para ErrorCode.
+ *
+ * Verifica:
+ * - Las excepciones específicas ganan a sus superclases
+ * - Excepciones de Spring con el mismo código que las de dominio
+ * - Las violaciones de @Valid en los puertos de entrada como VALIDATION_ERROR
+ * - INTERNAL_ERROR para las excepciones no catalogadas
+ */
+class ErrorCodeTest {
+
+    @Test
+    @DisplayName("Debe resolver la excepción más específica antes que DomainException")
+    void testResolve_EspecificaAntesQueGeneral() {
+        assertEquals(ErrorCode.FACULTAD_NOT_FOUND, ErrorCode.resolve(new FacultadNotFoundException(1L)));
+        assertEquals(ErrorCode.INVALID_DURATION, ErrorCode.resolve(new InvalidDurationException(20)));
+        assertEquals(HttpStatus.NOT_FOUND, ErrorCode.FACULTAD_NOT_FOUND.getStatus());
+    }
+
+    @Test
+    @DisplayName("Debe asignar VERSION_CONFLICT al conflicto de @Version de JPA")
+    void testResolve_OptimisticLocking() {
+        // Given
+        ObjectOptimisticLockingFailureException ex =
+                new ObjectOptimisticLockingFailureException("FacultadJpaEntity", 1L);
+
+        // When / Then
+        assertEquals(ErrorCode.VERSION_CONFLICT, ErrorCode.resolve(ex));
+        assertEquals(HttpStatus.CONFLICT, ErrorCode.resolve(ex).getStatus());
+    }
+
+    @Test
+    @DisplayName("Debe asignar VALIDATION_ERROR a las violaciones de una consulta validada")
+    void testResolve_ConstraintViolation() {
+        // Given
+        SearchCarrerasQuery query = new SearchCarrerasQuery();
+        query.setTexto("ingenieria");
+        query.setSize(FindCarrerasPageQuery.MAX_SIZE + 1);
+        Set<ConstraintViolation<SearchCarrerasQuery>> violations;
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+            violations = factory.getValidator().validate(query);
+        }
+
+        // When
+        ErrorCode code = ErrorCode.resolve(new ConstraintViolationException(violations));
+
+        // Then
+        assertFalse(violations.isEmpty());
+        assertEquals(ErrorCode.VALIDATION_ERROR, code);
+        assertEquals(HttpStatus.BAD_REQUEST, code.getStatus());
+    }
+
+    @Test
+    @DisplayName("Debe devolver INTERNAL_ERROR para excepciones no catalogadas")
+    void testResolve_NoCatalogada() {
+        assertEquals(ErrorCode.INTERNAL_ERROR, ErrorCode.resolve(new UnsupportedOperationException()));
+        assertEquals(ErrorCode.INTERNAL_ERROR, ErrorCode.resolve(new Exception()));
+    }
+}
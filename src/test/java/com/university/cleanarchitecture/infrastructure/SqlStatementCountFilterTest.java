@@ -0,0 +1,105 @@
+package com.university.cleanarchitecture.infrastructure;
+
+import com.university.cleanarchitecture.infrastructure.observability.SqlStatementBudgetExceededException;
+import com.university.cleanarchitecture.infrastructure.observability.SqlStatementCountFilter;
+import com.university.cleanarchitecture.infrastructure.observability.SqlStatementCounter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests para SqlStatementCountFilter con peticiones HTTP a través de MockMvc.
+ *
+ * Verifica:
+ * - Cabecera y métrica con el número de sentencias de la petición
+ * - Fallo de la petición al superar el presupuesto
+ * - Las peticiones asíncronas no se miden
+ */
+class SqlStatementCountFilterTest {
+
+    private static final int PRESUPUESTO = 2;
+
+    private SimpleMeterRegistry registry;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        mockMvc = MockMvcBuilders.standaloneSetup(new ConsultasController())
+                .addFilters(new SqlStatementCountFilter(registry, PRESUPUESTO, true))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Debe informar las sentencias de la petición en la cabecera y la métrica")
+    void testFiltro_DentroDelPresupuesto() throws Exception {
+        // When / Then
+        mockMvc.perform(get("/consultas/2"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-SQL-Statement-Count", "2"));
+
+        DistributionSummary summary = registry.find("universidad.http.sql.statements")
+                .tags("method", "GET", "uri", "/consultas/{n}")
+                .summary();
+        assertNotNull(summary);
+        assertEquals(2.0, summary.totalAmount());
+    }
+
+    @Test
+    @DisplayName("Debe fallar la petición que supera el presupuesto de sentencias")
+    void testFiltro_PresupuestoSuperado() {
+        // When
+        SqlStatementBudgetExceededException ex = assertThrows(SqlStatementBudgetExceededException.class,
+                () -> mockMvc.perform(get("/consultas/3")));
+
+        // Then
+        assertTrue(ex.getMessage().contains("GET /consultas/{n}"));
+    }
+
+    @Test
+    @DisplayName("No debe medir ni aplicar el presupuesto a las peticiones asíncronas")
+    void testFiltro_PeticionAsincrona() throws Exception {
+        // When: supera el presupuesto antes de pasar a modo asíncrono
+        mockMvc.perform(get("/consultas/5/async"))
+                .andExpect(request().asyncStarted());
+
+        // Then
+        assertNull(registry.find("universidad.http.sql.statements").summary());
+    }
+
+    @RestController
+    static class ConsultasController {
+
+        @GetMapping("/consultas/{n}")
+        String consultas(@PathVariable("n") int n) {
+            ejecutar(n);
+            return "ok";
+        }
+
+        @GetMapping("/consultas/{n}/async")
+        DeferredResult<String> consultasAsync(@PathVariable("n") int n) {
+            ejecutar(n);
+            return new DeferredResult<>();
+        }
+
+        private void ejecutar(int sentencias) {
+            for (int i = 0; i < sentencias; i++) {
+                SqlStatementCounter.increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.university.cleanarchitecture.infrastructure;
+
+import com.university.cleanarchitecture.application.dto.query.FindAllFacultadesQuery;
+import com.university.cleanarchitecture.application.dto.query.FindFacultadByIdQuery;
+import com.university.cleanarchitecture.application.dto.response.FacultadResponse;
+import com.university.cleanarchitecture.application.dto.response.FacultadSummaryResponse;
+import com.university.cleanarchitecture.application.port.in.FindAllFacultadesUseCase;
+import com.university.cleanarchitecture.application.port.in.FindFacultadByIdUseCase;
+import com.university.cleanarchitecture.domain.exception.FacultadNotFoundException;
+import com.university.cleanarchitecture.infrastructure.observability.UseCaseMetricsAspect;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para UseCaseMetricsAspect.
+ *
+ * Verifica:
+ * - Latencia y tamaño del resultado etiquetados con el puerto de entrada
+ * - Contador de errores con el código que devolvería la API
+ */
+class UseCaseMetricsAspectTest {
+
+    private SimpleMeterRegistry registry;
+    private FacultadesFake proxy;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        AspectJProxyFactory factory = new AspectJProxyFactory(new FacultadesFake());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new UseCaseMetricsAspect(registry));
+        proxy = factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("Debe registrar latencia y tamaño del resultado por caso de uso")
+    void testMeasure_Exito() {
+        // When
+        proxy.findAll(new FindAllFacultadesQuery(false));
+
+        // Then
+        Timer timer = registry.find("universidad.usecase.duration")
+                .tags("use_case", "FindAllFacultadesUseCase", "method", "findAll", "outcome", "success")
+                .timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+
+        DistributionSummary size = registry.find("universidad.usecase.result.size")
+                .tags("use_case", "FindAllFacultadesUseCase")
+                .summary();
+        assertNotNull(size);
+        assertEquals(2.0, size.totalAmount());
+    }
+
+    @Test
+    @DisplayName("Debe contar los errores con el tipo de excepción y el código de la API")
+    void testMeasure_Error() {
+        // When
+        assertThrows(FacultadNotFoundException.class, () -> proxy.findById(new FindFacultadByIdQuery(99L)));
+
+        // Then
+        assertEquals(1.0, registry.get("universidad.usecase.errors")
+                .tags("use_case", "FindFacultadByIdUseCase",
+                        "exception", "FacultadNotFoundException",
+                        "code", "FACULTAD_NOT_FOUND")
+                .counter().count());
+        assertEquals(1, registry.get("universidad.usecase.duration")
+                .tags("use_case", "FindFacultadByIdUseCase", "outcome", "error")
+                .timer().count());
+    }
+
+    static class FacultadesFake implements FindAllFacultadesUseCase, FindFacultadByIdUseCase {
+
+        @Override
+        public List<FacultadSummaryResponse> findAll(FindAllFacultadesQuery query) {
+            return List.of(new FacultadSummaryResponse(), new FacultadSummaryResponse());
+        }
+
+        @Override
+        public FacultadResponse findById(FindFacultadByIdQuery query) {
+            throw new FacultadNotFoundException(query.getFacultadId());
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.university.cleanarchitecture.infrastructure.adapter.out.persistence.adapter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para NombreUniquenessIndex.
+ *
+ * Verifica:
+ * - Sin cargar, toda comprobación se delega a la base de datos
+ * - Nombres libres respondidos en memoria tras la carga
+ * - Renombrado y eliminación
+ */
+class NombreUniquenessIndexTest {
+
+    @Test
+    @DisplayName("Antes de la carga inicial no debe descartar ningún nombre")
+    void testPuedeExistir_SinCargar() {
+        // Given
+        NombreUniquenessIndex index = new NombreUniquenessIndex();
+
+        // When / Then
+        assertFalse(index.isCargado());
+        assertTrue(index.puedeExistir("Ingeniería de Sistemas"));
+        assertTrue(index.puedeExistirEnOtro("Ingeniería de Sistemas", 1L));
+    }
+
+    @Test
+    @DisplayName("Debe descartar en memoria los nombres que no conoce")
+    void testPuedeExistir_Cargado() {
+        // Given
+        NombreUniquenessIndex index = new NombreUniquenessIndex();
+        index.cargar(Map.of(1L, "Ingeniería de Sistemas", 2L, "Medicina"));
+
+        // When / Then
+        assertTrue(index.puedeExistir("Medicina"));
+        assertFalse(index.puedeExistir("Arquitectura"));
+        assertFalse(index.puedeExistirEnOtro("Medicina", 2L));
+        assertTrue(index.puedeExistirEnOtro("Medicina", 1L));
+    }
+
+    @Test
+    @DisplayName("Debe liberar el nombre anterior al renombrar y al eliminar")
+    void testRegistrarYEliminar() {
+        // Given
+        NombreUniquenessIndex index = new NombreUniquenessIndex();
+        index.cargar(Map.of(1L, "Medicina"));
+
+        // When: sin transacción activa los cambios se aplican de inmediato
+        index.registrarTrasCommit(1L, "Medicina Humana");
+
+        // Then
+        assertFalse(index.puedeExistir("Medicina"));
+        assertTrue(index.puedeExistir("Medicina Humana"));
+
+        // When
+        index.eliminarTrasCommit(1L);
+
+        // Then
+        assertFalse(index.puedeExistir("Medicina Humana"));
+    }
+}
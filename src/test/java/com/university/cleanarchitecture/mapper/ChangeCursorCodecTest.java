@@ -0,0 +1,46 @@
+package com.university.cleanarchitecture.mapper;
+
+import com.university.cleanarchitecture.application.mapper.ChangeCursorCodec;
+import com.university.cleanarchitecture.application.mapper.PageCursorCodec;
+import com.university.cleanarchitecture.application.port.out.ChangeFeedPosition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para ChangeCursorCodec.
+ *
+ * Verifica:
+ * - Ida y vuelta de las posiciones de facultades y carreras, con microsegundos
+ * - Rechazo de cursores mal formados o de paginación
+ */
+class ChangeCursorCodecTest {
+
+    @Test
+    @DisplayName("Debe decodificar las mismas posiciones que se codificaron")
+    void testEncodeDecode_RoundTrip() {
+        // Given
+        ChangeFeedPosition facultades = new ChangeFeedPosition(LocalDateTime.of(2024, 3, 1, 10, 15, 30, 123456000), 7L);
+        ChangeFeedPosition carreras = ChangeFeedPosition.INICIO;
+
+        // When
+        ChangeFeedPosition[] posiciones = ChangeCursorCodec.decode(ChangeCursorCodec.encode(facultades, carreras));
+
+        // Then
+        assertEquals(facultades, posiciones[0]);
+        assertEquals(carreras, posiciones[1]);
+    }
+
+    @Test
+    @DisplayName("Debe lanzar excepción con cursores inválidos")
+    void testDecode_InvalidCursor_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> ChangeCursorCodec.decode("no-es-base64!"));
+        assertThrows(IllegalArgumentException.class, () -> ChangeCursorCodec.decode(PageCursorCodec.encode(5L)));
+        assertThrows(IllegalArgumentException.class,
+                () -> ChangeCursorCodec.decode(ChangeCursorCodec.encode(
+                        ChangeFeedPosition.INICIO, ChangeFeedPosition.INICIO).substring(2)));
+    }
+}
@@ -0,0 +1,50 @@
+package com.university.cleanarchitecture.mapper;
+
+import com.university.cleanarchitecture.application.mapper.PageCursorCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para PageCursorCodec.
+ *
+ * Verifica:
+ * - Ida y vuelta entre id y cursor
+ * - Rechazo de cursores manipulados o mal formados
+ */
+class PageCursorCodecTest {
+
+    @Test
+    @DisplayName("Debe decodificar el mismo id que se codificó")
+    void testEncodeDecode_RoundTrip() {
+        // Given
+        long lastId = 123456789L;
+
+        // When
+        String cursor = PageCursorCodec.encode(lastId);
+
+        // Then
+        assertEquals(lastId, PageCursorCodec.decode(cursor));
+    }
+
+    @Test
+    @DisplayName("El cursor no debe exponer el id en claro")
+    void testEncode_IsOpaque() {
+        // When
+        String cursor = PageCursorCodec.encode(42L);
+
+        // Then
+        assertNotEquals("42", cursor);
+        assertFalse(cursor.contains("="));
+    }
+
+    @Test
+    @DisplayName("Debe lanzar excepción con cursores inválidos")
+    void testDecode_InvalidCursor_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> PageCursorCodec.decode("no-es-base64!"));
+        assertThrows(IllegalArgumentException.class, () -> PageCursorCodec.decode("MTIz"));
+        assertThrows(IllegalArgumentException.class,
+                () -> PageCursorCodec.decode(PageCursorCodec.encode(1L).substring(1)));
+    }
+}